@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 
 import static community.icon.cps.score.cpftreasury.Constants.*;
+import static community.icon.cps.score.cpftreasury.Validations.isAdmin;
 import static community.icon.cps.score.cpftreasury.Validations.validateAdmins;
 import static community.icon.cps.score.cpftreasury.Validations.validateCpsScore;
 
@@ -26,6 +27,10 @@ public class CPFTreasury extends SetterGetter implements CPFTreasuryInterface {
     public static final VarDB<Address> sICXScore = Context.newVarDB(SICX_SCORE, Address.class);
     public static final VarDB<Address> routerScore = Context.newVarDB(ROUTER_SCORE, Address.class);
     public static final VarDB<Address> oracleAddress = Context.newVarDB(ORACLE_ADDRESS, Address.class);
+    // copy of the cps score admins, read from the cps score until the first update arrives
+    public static final VarDB<BigInteger> configVersion = Context.newVarDB(CONFIG_VERSION, BigInteger.class);
+    public static final DictDB<Address, Boolean> configAdmins = Context.newDictDB(CONFIG_ADMINS, Boolean.class);
+    private final ArrayDB<Address> configAdminList = Context.newArrayDB(CONFIG_ADMIN_LIST, Address.class);
     private final ArrayDB<String> proposalsKeys = Context.newArrayDB(PROPOSALS_KEYS, String.class);
     private final DictDB<String, BigInteger> proposalBudgets = Context.newDictDB(PROPOSAL_BUDGETS, BigInteger.class);
     private final VarDB<BigInteger> treasuryFund = Context.newVarDB(TREASURY_FUND, BigInteger.class);
@@ -38,6 +43,10 @@ public class CPFTreasury extends SetterGetter implements CPFTreasuryInterface {
 
     private final VarDB<Boolean> swapFlag = Context.newVarDB(SWAP_FLAG, Boolean.class);
     private final VarDB<BigInteger> swapLimitAmount = Context.newVarDB(SWAP_LIMIT_AMOUNT, BigInteger.class);
+    private final VarDB<BigInteger> nextSwapBlock = Context.newVarDB(NEXT_SWAP_BLOCK, BigInteger.class);
+    private final VarDB<BigInteger> swapBlockSpacing = Context.newVarDB(SWAP_BLOCK_SPACING, BigInteger.class);
+    // number of chunks the remaining bnUSD is swapped in, sent by the cps score on every period change
+    private final VarDB<Integer> scheduledSwapCount = Context.newVarDB(SCHEDULED_SWAP_COUNT, Integer.class);
 
     public CPFTreasury() {
         if (treasuryFund.get() == null) {
@@ -335,10 +344,103 @@ public class CPFTreasury extends SetterGetter implements CPFTreasuryInterface {
     }
 
 
+    /***
+     Receives the settings of the cps score. Only the admins are kept here, the other settings are not used by
+     this score. Versions only move forward.
+     ***/
+    @Override
+    @External
+    public void updateConfig(BigInteger version, Address[] admins, boolean maintenance, BigInteger bondPercentage,
+                             Address[] blockedAddresses, boolean fullBlockedList) {
+        validateCpsScore();
+        BigInteger currentVersion = configVersion.getOrDefault(BigInteger.ZERO);
+        Context.require(version.compareTo(currentVersion) > 0,
+                TAG + ": Config version " + version + " is not newer than " + currentVersion);
+        configVersion.set(version);
+
+        int size = configAdminList.size();
+        for (int i = 0; i < size; i++) {
+            configAdmins.set(configAdminList.pop(), null);
+        }
+        for (Address admin : admins) {
+            configAdmins.set(admin, true);
+            configAdminList.add(admin);
+        }
+    }
+
+    @Override
+    @External(readonly = true)
+    public BigInteger getConfigVersion() {
+        return configVersion.getOrDefault(BigInteger.ZERO);
+    }
+
     @Override
     @External
     public void swapTokens(int count) {
         validateCpsScore();
+        swapChunk(count);
+    }
+
+    /***
+     Swaps the next chunk of the ICX to bnUSD schedule. Anyone can run it once the spacing since the last scheduled
+     swap has passed, the ICX swapped in one call is capped by the swap limit amount set by the admins. The spacing
+     starts over only when a chunk was swapped.
+     ***/
+    @Override
+    @External
+    public void executeScheduledSwap() {
+        Context.require(getSwapFlag(), TAG + ": SwapTurnedOff.");
+        BigInteger blockHeight = BigInteger.valueOf(Context.getBlockHeight());
+        BigInteger nextBlock = nextSwapBlock.getOrDefault(BigInteger.ZERO);
+        Context.require(nextBlock.compareTo(blockHeight) <= 0, TAG + ": Next swap is allowed at block " + nextBlock);
+        if (swapChunk(getScheduledSwapCount())) {
+            nextSwapBlock.set(blockHeight.add(getSwapBlockSpacing()));
+        }
+    }
+
+    @Override
+    @External
+    public void setScheduledSwapCount(int count) {
+        validateCpsScore();
+        Context.require(count >= 0, TAG + ": Swap count should not be negative");
+        scheduledSwapCount.set(count);
+    }
+
+    @External
+    public void setSwapBlockSpacing(BigInteger value) {
+        validateAdmins();
+        Context.require(value.compareTo(BigInteger.ZERO) > 0, TAG + ": Swap block spacing should be greater than 0");
+        swapBlockSpacing.set(value);
+    }
+
+    @External(readonly = true)
+    public BigInteger getSwapBlockSpacing() {
+        return swapBlockSpacing.getOrDefault(DEFAULT_SWAP_BLOCK_SPACING);
+    }
+
+    @Override
+    @External(readonly = true)
+    public Map<String, Object> getSwapSchedule() {
+        return Map.of(NEXT_SWAP_BLOCK, nextSwapBlock.getOrDefault(BigInteger.ZERO),
+                SWAP_BLOCK_SPACING, getSwapBlockSpacing(),
+                STATE, swapState.getOrDefault(0),
+                COUNT, swapCount.getOrDefault(0),
+                SCHEDULED_COUNT, getScheduledSwapCount(),
+                SWAP_LIMIT_AMOUNT, getSwapLimitAmount(),
+                REMAINING_TO_SWAP, getRemainingSwapAmount().get(REMAINING_TO_SWAP));
+    }
+
+    // read from the cps score until the first count is sent
+    private int getScheduledSwapCount() {
+        Integer count = scheduledSwapCount.get();
+        if (count != null) {
+            return count;
+        }
+        return Context.call(BigInteger.class, cpsScore.get(), "getSwapCount").intValue();
+    }
+
+    // returns whether a chunk was swapped
+    private boolean swapChunk(int count) {
         BigInteger sicxICXPrice = (BigInteger) Context.call(dexScore.get(), "getPrice", sICXICXPoolID);
         BigInteger sicxBnusdPrice = (BigInteger) Context.call(dexScore.get(), "getPrice", sICXBNUSDPoolID);
         BigInteger icxbnUSDPrice = sicxBnusdPrice.multiply(EXA).divide(sicxICXPrice);
@@ -357,17 +459,20 @@ public class CPFTreasury extends SetterGetter implements CPFTreasuryInterface {
                 } else {
                     BigInteger remainingICXToSwap = bnUSDRemainingToSwap.multiply(EXA).divide(icxbnUSDPrice.multiply(BigInteger.valueOf(_count)));
                     BigInteger icxBalance = Context.getBalance(Context.getAddress());
-                    swapCount.set(swapCountValue + 1);
                     if (remainingICXToSwap.compareTo(icxBalance) > 0) {
                         remainingICXToSwap = icxBalance;
                     }
 
+                    // a chunk too small to swap is not counted, it is tried again on the next call
                     if (remainingICXToSwap.compareTo(BigInteger.valueOf(5).multiply(EXA)) > 0) {
+                        swapCount.set(swapCountValue + 1);
                         swapIcxBnusd(remainingICXToSwap, BigInteger.ZERO);
+                        return true;
                     }
                 }
             }
         }
+        return false;
     }
 
     @Override
@@ -382,7 +487,7 @@ public class CPFTreasury extends SetterGetter implements CPFTreasuryInterface {
         Address cpsScoreAddress = cpsScore.get();
         Address caller = Context.getCaller();
 
-        boolean checkCaller = caller.equals(cpsScoreAddress) || (Boolean) Context.call(cpsScoreAddress, "isAdmin", caller);
+        boolean checkCaller = caller.equals(cpsScoreAddress) || isAdmin(caller);
         Context.require(checkCaller, TAG + ": Only admin can call this method.");
         swapState.set(SwapContinue);
         swapCount.set(SwapReset);
@@ -35,6 +35,13 @@ public class Constants {
     public static final String SWAP_LIMIT_AMOUNT = "swap_limit_amount";
     public static final String ORACLE_PERCENTAGE_DIFF = "oracle_percentage_diff";
     public static final String SWAP_FLAG = "swap_flag";
+    public static final String CONFIG_VERSION = "config_version";
+    public static final String CONFIG_ADMINS = "config_admins";
+    public static final String CONFIG_ADMIN_LIST = "config_admin_list";
+    public static final String NEXT_SWAP_BLOCK = "next_swap_block";
+    public static final String SWAP_BLOCK_SPACING = "swap_block_spacing";
+    public static final String SCHEDULED_COUNT = "scheduled_count";
+    public static final String SCHEDULED_SWAP_COUNT = "scheduled_swap_count";
     public static final String MAX_CAP = "maxCap";
     public static final String REMAINING_TO_SWAP = "remainingToSwap";
     public static final String PROJECT_IPFS_HASH = "ipfs_hash";
@@ -55,5 +62,6 @@ public class Constants {
     public static final int SwapContinue = 0;
     public static final int SwapCompleted = 1;
     public static final int SwapReset = 0;
+    public static final BigInteger DEFAULT_SWAP_BLOCK_SPACING = BigInteger.valueOf(5);
 
 }
@@ -7,9 +7,15 @@ import static community.icon.cps.score.cpftreasury.Constants.SYSTEM_ADDRESS;
 import static community.icon.cps.score.cpftreasury.Constants.TAG;
 
 public class Validations {
+    public static boolean isAdmin(Address address) {
+        if (CPFTreasury.configVersion.get() != null) {
+            return CPFTreasury.configAdmins.getOrDefault(address, false);
+        }
+        return (Boolean) Context.call(CPFTreasury.cpsScore.get(), "isAdmin", address);
+    }
+
     public static void validateAdmins() {
-        Context.require((Boolean) Context.call(CPFTreasury.cpsScore.get(), "isAdmin", Context.getCaller()),
-                TAG + ": Only Admins can call this method");
+        Context.require(isAdmin(Context.getCaller()), TAG + ": Only Admins can call this method");
 
     }
 
@@ -23,6 +23,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 public class CPFTTreasuryTest extends TestBase {
@@ -380,6 +381,54 @@ public class CPFTTreasuryTest extends TestBase {
         }
     }
 
+    @Test
+    void executeScheduledSwap() {
+        setMaxCapIcxAndBnusd();
+        toggleSwapFlag();
+        VarDB<Address> balancedDollar = mock(VarDB.class);
+        VarDB<Address> dexScore = mock(VarDB.class);
+
+        transferProposalFundMethod();
+        try (MockedStatic<Context> theMock = Mockito.mockStatic(Context.class)) {
+            theMock.when(() -> Context.getCaller()).thenReturn(score_address);
+            tokenScore.invoke(owner, "setScheduledSwapCount", 10);
+
+            theMock.when(() -> Context.getCaller()).thenReturn(testing_account.getAddress());
+            theMock.when(Context::getBlockHeight).thenReturn(100L);
+            theMock.when(() -> Context.call(dexScore.get(), "getPrice", 1)).thenReturn(BigInteger.valueOf(12).multiply(MULTIPLIER).divide(BigInteger.TEN));
+            theMock.when(() -> Context.call(dexScore.get(), "getPrice", 2)).thenReturn(BigInteger.valueOf(8).multiply(MULTIPLIER).divide(BigInteger.TEN));
+            theMock.when(() -> Context.call(balancedDollar.get(), "balanceOf", Context.getAddress())).thenReturn(BigInteger.valueOf(1000).multiply(MULTIPLIER));
+            theMock.when(() -> Context.getBalance(Context.getAddress())).thenReturn(BigInteger.valueOf(2000).multiply(MULTIPLIER));
+            theMock.when(() -> Context.call(null, "get_reference_data", "ICX", "USD")).thenReturn(Map.of("rate", BigInteger.valueOf(2).multiply(MULTIPLIER).divide(BigInteger.TEN)));
+            tokenScore.invoke(testing_account, "executeScheduledSwap");
+            assertEquals(tokenScore.call("getSwapStateStatus"), Map.of("count", 1, "state", 0));
+
+            Map<String, Object> schedule = (Map<String, Object>) tokenScore.call("getSwapSchedule");
+            assertEquals(BigInteger.valueOf(105), schedule.get("next_swap_block"));
+            assertEquals(10, schedule.get("scheduled_count"));
+
+            // the next chunk has to wait for the spacing
+            tokenScore.invoke(testing_account, "executeScheduledSwap");
+            theMock.verify(() -> Context.require(false, TAG + ": Next swap is allowed at block 105"));
+
+            // a chunk too small to swap does not use up the schedule or the spacing
+            theMock.when(Context::getBlockHeight).thenReturn(105L);
+            theMock.when(() -> Context.getBalance(Context.getAddress())).thenReturn(BigInteger.valueOf(3).multiply(MULTIPLIER));
+            Object swapStatus = tokenScore.call("getSwapStateStatus");
+            tokenScore.invoke(testing_account, "executeScheduledSwap");
+            assertEquals(swapStatus, tokenScore.call("getSwapStateStatus"));
+            assertEquals(BigInteger.valueOf(105), ((Map<String, Object>) tokenScore.call("getSwapSchedule")).get("next_swap_block"));
+
+            theMock.when(() -> Context.getBalance(Context.getAddress())).thenReturn(BigInteger.valueOf(2000).multiply(MULTIPLIER));
+            tokenScore.invoke(testing_account, "executeScheduledSwap");
+            assertEquals(tokenScore.call("getSwapStateStatus"), Map.of("count", 3, "state", 0));
+            assertEquals(BigInteger.valueOf(110), ((Map<String, Object>) tokenScore.call("getSwapSchedule")).get("next_swap_block"));
+
+            // the count sent by the cps score is used, it is not read back from it
+            theMock.verify(() -> Context.call(BigInteger.class, score_address, "getSwapCount"), never());
+        }
+    }
+
     @Test
     void resetSwapState() {
         setMaxCapIcxAndBnusd();
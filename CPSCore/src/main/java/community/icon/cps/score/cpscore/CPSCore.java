@@ -3,8 +3,12 @@ package community.icon.cps.score.cpscore;
 import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import community.icon.cps.score.cpscore.db.MilestoneDb;
+import community.icon.cps.score.cpscore.db.MilestoneRecord;
+import community.icon.cps.score.cpscore.db.PRepSnapshot;
 import community.icon.cps.score.cpscore.db.ProgressReportDataDb;
+import community.icon.cps.score.cpscore.db.ProgressReportRecord;
 import community.icon.cps.score.cpscore.db.ProposalDataDb;
+import community.icon.cps.score.cpscore.db.ProposalRecord;
 import community.icon.cps.score.cpscore.utils.ArrayDBUtils;
 import community.icon.cps.score.lib.interfaces.CPSCoreInterface;
 import score.*;
@@ -21,6 +25,8 @@ import java.util.Map;
 
 import static community.icon.cps.score.cpscore.db.MilestoneDb.addDataToMilestoneDb;
 import static community.icon.cps.score.cpscore.db.MilestoneDb.getDataFromMilestoneDB;
+import static community.icon.cps.score.cpscore.db.MilestoneDb.getMilestoneRecord;
+import static community.icon.cps.score.cpscore.db.MilestoneDb.setMilestoneRecord;
 import static community.icon.cps.score.cpscore.db.ProgressReportDataDb.*;
 import static community.icon.cps.score.cpscore.db.ProposalDataDb.*;
 import static community.icon.cps.score.cpscore.utils.ArrayDBUtils.*;
@@ -37,6 +43,9 @@ public class CPSCore implements CPSCoreInterface {
     private final ArrayDB<String> budgetApprovalsList = Context.newArrayDB(BUDGET_APPROVALS_LIST, String.class);
 
     private final ArrayDB<String> activeProposals = Context.newArrayDB(ACTIVE_PROPOSALS, String.class);
+    // rebuilt every voting period under a new round instead of popping the previous list
+    private final BranchDB<Integer, ArrayDB<String>> activeProposalRounds = Context.newBranchDB(ACTIVE_PROPOSAL_ROUNDS, String.class);
+    private final VarDB<Integer> activeProposalsRound = Context.newVarDB(ACTIVE_PROPOSALS_ROUND, Integer.class);
 
     private final ArrayDB<Address> contributors = Context.newArrayDB(CONTRIBUTORS, Address.class);
     private final ArrayDB<Address> sponsors = Context.newArrayDB(SPONSORS, Address.class);
@@ -48,13 +57,12 @@ public class CPSCore implements CPSCoreInterface {
     private final VarDB<BigInteger> maxDelegation = Context.newVarDB(MAX_DELEGATION, BigInteger.class);
     private final VarDB<BigInteger> totalDelegationSnapshot = Context.newVarDB(TOTAL_DELEGATION_SNAPSHOT, BigInteger.class);
     private final VarDB<BigInteger> proposalFees = Context.newVarDB(PROPOSAL_FEES, BigInteger.class);
-    private final VarDB<BigInteger> swapBlockHeight = Context.newVarDB(SWAP_BLOCK_HEIGHT, BigInteger.class);
     private final VarDB<Integer> swapCount = Context.newVarDB(SWAP_COUNT, Integer.class);
-    private final DictDB<String, Integer> proposalRank = Context.newDictDB(PROPOSAL_RANK, Integer.class);
     private final ArrayDB<Address> priorityVotedPreps = Context.newArrayDB(PRIORITY_VOTED_PREPS, Address.class);
+    // period count of the last priority vote of each P-Rep
+    private final DictDB<Address, Integer> priorityVotedPeriod = Context.newDictDB(PRIORITY_VOTED_PERIOD, Integer.class);
     private final BranchDB<Address, ArrayDB<String>> sponsorProjects = Context.newBranchDB(SPONSOR_PROJECTS, String.class);
     private final BranchDB<Address, ArrayDB<String>> contributorProjects = Context.newBranchDB(CONTRIBUTOR_PROJECTS, String.class);
-    private final ArrayDB<Address> blockAddresses = Context.newArrayDB(BLOCKED_ADDRESSES, Address.class);
     private static final BigInteger HUNDRED = BigInteger.valueOf(100);
 
     public CPSCore(@Optional BigInteger bondValue, @Optional BigInteger applicationPeriod) {
@@ -77,7 +85,7 @@ public class CPSCore implements CPSCoreInterface {
         ProgressReportDataDb.status.at(progressReportPrefix).set(PROGRESS_REPORT_REJECTED);
         ProgressReportDataDb.timestamp.at(progressReportPrefix).set(BigInteger.valueOf(1706244342109937L));
         Status status = new Status();
-        status.progressReportStatus.get(PROGRESS_REPORT_REJECTED).add(progressReport);
+        status.addProgressReport(progressReport, PROGRESS_REPORT_REJECTED);
 
         // End of fix
 
@@ -89,6 +97,19 @@ public class CPSCore implements CPSCoreInterface {
         BigInteger bnUSDAmount = userAmounts.getOrDefault(bnUSD, BigInteger.ZERO);
         sponsorBondReturn.at(address.toString()).set(bnUSD, bnUSDAmount);
 
+        // Populate P-Rep role registry from the existing role lists
+        new PReps().syncRoles();
+
+        // Priority votes of the current period cast before the voted period was kept
+        for (int i = 0; i < priorityVotedPreps.size(); i++) {
+            priorityVotedPeriod.set(priorityVotedPreps.get(i), getPeriodCount());
+        }
+
+        // Project amounts and the sponsor index of existing proposals are filled by the backfill migrations
+        if (proposalsKeyList.size() == 0) {
+            new ProjectAmounts().ready.set(true);
+            new SponsorIndex().ready.set(true);
+        }
     }
 
     @Override
@@ -173,6 +194,7 @@ public class CPSCore implements CPSCoreInterface {
         Context.require(bondValue.compareTo(BigInteger.valueOf(12)) >= 0, TAG +
                 ": Cannot set bond percentage less than 12%");
         sponsorBondPercentage.set(bondValue);
+        pushConfig(new Address[0], false);
     }
 
     @External(readonly = true)
@@ -233,6 +255,7 @@ public class CPSCore implements CPSCoreInterface {
         validateAdmins();
         SetterGetter setterGetter = new SetterGetter();
         setterGetter.maintenance.set(!setterGetter.maintenance.getOrDefault(Boolean.TRUE));
+        pushConfig(new Address[0], false);
     }
 
 
@@ -283,6 +306,7 @@ public class CPSCore implements CPSCoreInterface {
         boolean check = ArrayDBUtils.containsInArrayDb(address, admins);
         if (!check) {
             admins.add(address);
+            pushConfig(new Address[0], false);
         }
     }
 
@@ -294,6 +318,60 @@ public class CPSCore implements CPSCoreInterface {
         boolean check = ArrayDBUtils.containsInArrayDb(address, admins);
         Context.require(check, TAG + ": Address not registered as admin.");
         ArrayDBUtils.removeArrayItem(admins, address);
+        pushConfig(new Address[0], false);
+    }
+
+    /***
+     Pushes the admins, maintenance mode, sponsor bond percentage and every blocked address to the treasuries,
+     used once to fill the treasury copies. Later changes are pushed as they happen.
+     ***/
+    @External
+    public void replicateConfig() {
+        validateAdmins();
+        pushConfig(toAddressArray(new PReps().blockedAddresses), true);
+    }
+
+    @External(readonly = true)
+    public BigInteger getConfigVersion() {
+        return new SetterGetter().configVersion.getOrDefault(BigInteger.ZERO);
+    }
+
+    // blocked addresses are sent as changes, the other settings as a whole. A treasury that did not receive the
+    // previous version, because it was set or changed since, gets the full blocked list so it can check its own copy.
+    private void pushConfig(Address[] newlyBlocked, boolean fullBlockedList) {
+        SetterGetter setterGetter = new SetterGetter();
+        BigInteger previous = setterGetter.configVersion.getOrDefault(BigInteger.ZERO);
+        BigInteger version = previous.add(BigInteger.ONE);
+        setterGetter.configVersion.set(version);
+
+        Address[] adminList = toAddressArray(admins);
+        boolean maintenance = getMaintenanceMode();
+        BigInteger bondPercentage = getSponsorBondPercentage();
+        Address[] blockedList = null;
+        for (Address treasury : new Address[]{setterGetter.cpsTreasuryScore.get(), setterGetter.cpfScore.get()}) {
+            if (treasury == null) {
+                continue;
+            }
+            if (fullBlockedList || previous.equals(setterGetter.configPushedVersion.get(treasury))) {
+                callScore(treasury, "updateConfig", version, adminList, maintenance, bondPercentage, newlyBlocked,
+                        fullBlockedList);
+            } else {
+                if (blockedList == null) {
+                    blockedList = toAddressArray(new PReps().blockedAddresses);
+                }
+                callScore(treasury, "updateConfig", version, adminList, maintenance, bondPercentage, blockedList, true);
+            }
+            setterGetter.configPushedVersion.set(treasury, version);
+        }
+    }
+
+    private Address[] toAddressArray(ArrayDB<Address> addresses) {
+        int size = addresses.size();
+        Address[] array = new Address[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = addresses.get(i);
+        }
+        return array;
     }
 
     @Override
@@ -304,13 +382,13 @@ public class CPSCore implements CPSCoreInterface {
         Address caller = Context.getCaller();
         PReps pReps = new PReps();
         PeriodController period = new PeriodController();
-        Context.require(ArrayDBUtils.containsInArrayDb(caller, pReps.validPreps) &&
-                ArrayDBUtils.containsInArrayDb(caller, pReps.registeredPreps), "P-Rep is not registered yet.");
+        Context.require(pReps.hasRole(caller, ROLE_VALID) && pReps.hasRole(caller, ROLE_REGISTERED),
+                "P-Rep is not registered yet.");
         Context.require(period.periodName.get().equals(APPLICATION_PERIOD),
                 "P-Reps can only be unregister on Application Period");
-        ArrayDBUtils.removeArrayItem(pReps.validPreps, caller);
-        ArrayDBUtils.removeArrayItem(pReps.registeredPreps, caller);
-        pReps.unregisteredPreps.add(caller);
+        pReps.removeRole(caller, ROLE_VALID);
+        pReps.removeRole(caller, ROLE_REGISTERED);
+        pReps.addRole(caller, ROLE_UNREGISTERED);
         UnRegisterPRep(caller, "P-Rep has ben unregistered successfully.");
 
     }
@@ -321,24 +399,29 @@ public class CPSCore implements CPSCoreInterface {
         checkMaintenance();
         updatePeriod();
         Address caller = Context.getCaller();
-        List<Address> prepList = getPrepsAddress();
+        Map<String, Object> callerTermInfo = null;
+        for (Map<String, Object> prep : getPrepTerm()) {
+            if (caller.equals(prep.get("address"))) {
+                callerTermInfo = prep;
+                break;
+            }
+        }
         PReps pReps = new PReps();
 
-        Context.require(prepList.contains(caller),
+        Context.require(callerTermInfo != null,
                 TAG + ": Not a P-Rep.");
-        Context.require(!ArrayDBUtils.containsInArrayDb(caller, pReps.registeredPreps),
+        Context.require(!pReps.hasRole(caller, ROLE_REGISTERED),
                 TAG + ": P-Rep is already registered.");
-        Context.require(!ArrayDBUtils.containsInArrayDb(caller, pReps.denylist),
+        Context.require(!pReps.hasRole(caller, ROLE_DENYLISTED),
                 TAG + ": You are in denylist. To register, You've to pay Penalty.");
 
-        if (ArrayDBUtils.containsInArrayDb(caller, pReps.unregisteredPreps)) {
-            ArrayDBUtils.removeArrayItem(pReps.unregisteredPreps, caller);
-        }
-        pReps.registeredPreps.add(caller);
+        pReps.removeRole(caller, ROLE_UNREGISTERED);
+        pReps.addRole(caller, ROLE_REGISTERED);
+        pReps.snapshotPRep(callerTermInfo);
         RegisterPRep(caller, "P-Rep Registered.");
         PeriodController period = new PeriodController();
         if (period.periodName.get().equals(APPLICATION_PERIOD)) {
-            pReps.validPreps.add(caller);
+            pReps.addRole(caller, ROLE_VALID);
         }
 
     }
@@ -365,10 +448,18 @@ public class CPSCore implements CPSCoreInterface {
     }
 
     private String getPrepName(Address address) {
+        PRepSnapshot snapshot = new PReps().getSnapshot(address);
+        if (snapshot != null) {
+            return snapshot.name;
+        }
         return (String) getPRepInfo(address).get("name");
     }
 
     private BigInteger getStake(Address address) {
+        PRepSnapshot snapshot = new PReps().getSnapshot(address);
+        if (snapshot != null) {
+            return snapshot.power;
+        }
         return (BigInteger) getPRepInfo(address).get("power");
     }
 
@@ -378,14 +469,16 @@ public class CPSCore implements CPSCoreInterface {
 
     private void setPreps() {
         PReps pReps = new PReps();
-        ArrayDBUtils.clearArrayDb(pReps.validPreps);
-        List<Address> prepsList = getPrepsAddress();
-
-        for (Address prep : prepsList) {
-            if (!ArrayDBUtils.containsInArrayDb(prep, pReps.denylist) &&
-                    !ArrayDBUtils.containsInArrayDb(prep, pReps.unregisteredPreps) &&
-                    ArrayDBUtils.containsInArrayDb(prep, pReps.registeredPreps)) {
-                pReps.validPreps.add(prep);
+        pReps.clearRole(ROLE_VALID);
+        List<Map<String, Object>> term = getPrepTerm();
+        pReps.snapshotTerm(term);
+
+        for (Map<String, Object> prepInfo : term) {
+            Address prep = (Address) prepInfo.get("address");
+            int roles = pReps.getRoles(prep);
+            if ((roles & (ROLE_DENYLISTED | ROLE_UNREGISTERED)) == 0 &&
+                    (roles & ROLE_REGISTERED) != 0) {
+                pReps.addRole(prep, ROLE_VALID);
             }
         }
 
@@ -443,7 +536,8 @@ public class CPSCore implements CPSCoreInterface {
     public boolean checkPriorityVoting(Address _prep) {
         int count = (int) getActiveProposalsList(0).get(COUNT);
         if (count > 0) {
-            return ArrayDBUtils.containsInArrayDb(_prep, priorityVotedPreps);
+            Integer votedPeriod = priorityVotedPeriod.get(_prep);
+            return votedPeriod != null && votedPeriod == getPeriodCount();
         }
         return false;
     }
@@ -452,6 +546,11 @@ public class CPSCore implements CPSCoreInterface {
     @External(readonly = true)
     public List<String> sortPriorityProposals() {
         Status status = new Status();
+        PriorityRanking priorityRanking = new PriorityRanking();
+        if (priorityRanking.isSynced(status.pending)) {
+            return priorityRanking.getRanking();
+        }
+
         int size = status.pending.size();
         String[] pendingProposals = new String[size];
         for (int i = 0; i < size; i++) {
@@ -466,6 +565,7 @@ public class CPSCore implements CPSCoreInterface {
     public Map<String, Integer> getPriorityVoteResult() {
         Map<String, Integer> priorityVoteResult = new HashMap<>();
         Status status = new Status();
+        DictDB<String, Integer> proposalRank = new PriorityRanking().proposalRank;
 
         int size = status.pending.size();
         for (int i = 0; i < size; i++) {
@@ -484,17 +584,22 @@ public class CPSCore implements CPSCoreInterface {
         Context.require(period.periodName.get().equals(VOTING_PERIOD), TAG + ": Voting can only be done in Voting Period.");
         Address caller = Context.getCaller();
         PReps pReps = new PReps();
-        Context.require(ArrayDBUtils.containsInArrayDb(caller, pReps.validPreps), "Voting can only be done by registered P-Reps");
+        Context.require(pReps.hasRole(caller, ROLE_VALID), "Voting can only be done by registered P-Reps");
         Context.require(!checkPriorityVoting(caller), "Already voted for Priority Ranking.");
 
         priorityVotedPreps.add(caller);
+        priorityVotedPeriod.set(caller, getPeriodCount());
         int size = _proposals.length;
         Status status = new Status();
+        if (status.pending.size() > 0) {
+            pReps.countVotes(getPeriodCount(), caller, 1);
+        }
+        PriorityRanking priorityRanking = new PriorityRanking();
         for (int i = 0; i < size; i++) {
             String proposal = _proposals[i];
-            Context.require(ArrayDBUtils.containsInArrayDb(proposal, status.pending),
+            Context.require(PENDING.equals(ProposalDataDb.status.at(proposalPrefix(proposal)).get()),
                     proposal + " not in pending state.");
-            proposalRank.set(proposal, proposalRank.getOrDefault(proposal, 0) + size - i);
+            priorityRanking.addPoints(proposal, size - i);
         }
         PriorityVote(caller, "Priority voting done successfully.");
     }
@@ -533,12 +638,13 @@ public class CPSCore implements CPSCoreInterface {
     public Map<String, BigInteger> loginPrep(Address address) {
         Map<String, BigInteger> loginData = new HashMap<>();
         PeriodController period = new PeriodController();
-        List<Address> allPreps;
         PReps pReps = new PReps();
+        boolean isPrep;
         if (period.periodName.get().equals(APPLICATION_PERIOD)) {
-            allPreps = getPrepsAddress();
+            // P-Reps that joined the term after the snapshot are looked up in the current term
+            isPrep = pReps.getSnapshot(address) != null || getPrepsAddress().contains(address);
         } else {
-            allPreps = ArrayDBUtils.arrayDBtoList(pReps.validPreps);
+            isPrep = pReps.hasRole(address, ROLE_VALID);
         }
 
         loginData.put(IS_PREP, BigInteger.ZERO);
@@ -546,15 +652,16 @@ public class CPSCore implements CPSCoreInterface {
         loginData.put(PAY_PENALTY, BigInteger.ZERO);
         loginData.put(VOTING_PREP, BigInteger.ZERO);
 
-        if (allPreps.contains(address)) {
+        if (isPrep) {
             loginData.put(IS_PREP, BigInteger.ONE);
-            if (ArrayDBUtils.containsInArrayDb(address, pReps.denylist)) {
+            int roles = pReps.getRoles(address);
+            if ((roles & ROLE_DENYLISTED) != 0) {
                 loginData.put(PAY_PENALTY, BigInteger.ONE);
                 loginData.put(PENALTY_AMOUNT1, getPenaltyAmount(address));
-            } else if (ArrayDBUtils.containsInArrayDb(address, pReps.registeredPreps)) {
+            } else if ((roles & ROLE_REGISTERED) != 0) {
                 loginData.put(IS_REGISTERED, BigInteger.ONE);
 
-                if (ArrayDBUtils.containsInArrayDb(address, pReps.validPreps)) {
+                if ((roles & ROLE_VALID) != 0) {
                     loginData.put(VOTING_PREP, BigInteger.ONE);
                 }
             }
@@ -589,9 +696,16 @@ public class CPSCore implements CPSCoreInterface {
         for (int i = 0; i < pReps.validPreps.size(); i++) {
             Address prep = pReps.validPreps.get(i);
             Map<String, Object> prepData = new HashMap<>();
-            prepData.put("name", getPrepName(prep));
+            PRepSnapshot snapshot = pReps.getSnapshot(prep);
+            if (snapshot != null) {
+                prepData.put("name", snapshot.name);
+                prepData.put("delegated", snapshot.power.toString());
+            } else {
+                Map<String, Object> prepInfo = getPRepInfo(prep);
+                prepData.put("name", prepInfo.get("name"));
+                prepData.put("delegated", prepInfo.get("power").toString());
+            }
             prepData.put("address", prep.toString());
-            prepData.put("delegated", getStake(prep).toString());
             prepsList.add(prepData);
         }
         return prepsList;
@@ -661,7 +775,8 @@ public class CPSCore implements CPSCoreInterface {
         Context.require(!proposalKeyExists(proposals.ipfs_hash), TAG + ": Proposal key already exists.");
         Address caller = Context.getCaller();
         Context.require(!caller.isContract(), TAG + ": Contract Address not supported.");
-        Context.require(!ArrayDBUtils.containsInArrayDb(caller, blockAddresses),
+        PReps pReps = new PReps();
+        Context.require(!pReps.hasRole(caller, ROLE_BLOCKED),
                 TAG + ": You are blocked from CPS.");
         Context.require(proposals.project_duration <= MAX_PROJECT_PERIOD,
                 TAG + ": Maximum Project Duration exceeds " + MAX_PROJECT_PERIOD + " months.");
@@ -670,8 +785,7 @@ public class CPSCore implements CPSCoreInterface {
         BigInteger maxCapBNUsd = getMaxCapBNUsd();
         Context.require(projectBudget.compareTo(maxCapBNUsd) < 0,
                 TAG + ": " + projectBudget + "is greater than MAX CAP " + maxCapBNUsd);
-        PReps pReps = new PReps();
-        Context.require(ArrayDBUtils.containsInArrayDb(proposals.sponsor_address, pReps.validPreps),
+        Context.require(pReps.hasRole(proposals.sponsor_address, ROLE_VALID),
                 TAG + ": Sponsor P-Rep not a Top 100 P-Rep.");
         Context.require(Context.getValue().equals(BigInteger.valueOf(APPLICATION_FEE).multiply(EXA)),
                 TAG + ": Deposit " + APPLICATION_FEE + " ICX to submit a proposal.");
@@ -700,7 +814,9 @@ public class CPSCore implements CPSCoreInterface {
         proposalsKeyList.add(proposals.ipfs_hash);
         proposalsKeyListIndex.set(ipfsHash, proposalsKeyList.size() - 1);
         Status status = new Status();
-        status.sponsorPending.add(ipfsHash);
+        status.addProposal(ipfsHash, SPONSOR_PENDING);
+        new ProjectAmounts().add(ipfsHash, SPONSOR_PENDING, proposals.token, totalBudget);
+        new SponsorIndex().add(ipfsHash, proposals.sponsor_address, SPONSOR_PENDING);
         contributors.add(caller);
         contributorProjects.at(caller).add(ipfsHash);
         ProposalSubmitted(caller, "Successfully submitted a Proposal.");
@@ -709,102 +825,134 @@ public class CPSCore implements CPSCoreInterface {
         BigInteger halfProposalFee = Context.getValue().divide(BigInteger.TWO);
         proposalFees.set(totalFund.add(halfProposalFee));
         burn(halfProposalFee, null);
-        swapBNUsdToken();
     }
 
 
     @Override
     @External
     public void voteProposal(String ipfsKey, String vote, String voteReason, @Optional boolean voteChange) {
+        Address caller = validateProposalVoter();
+        applyProposalVote(caller, new PReps(), getDelegation(caller), ipfsKey, vote, voteReason, voteChange);
+    }
+
+    @Override
+    @External
+    public void voteProposals(ProposalVote[] votes) {
+        Context.require(votes.length > 0, TAG + ": No votes to cast.");
+        Address caller = validateProposalVoter();
+        PReps pReps = new PReps();
+        BigInteger voterStake = getDelegation(caller);
+        for (ProposalVote proposalVote : votes) {
+            applyProposalVote(caller, pReps, voterStake, proposalVote.ipfsKey, proposalVote.vote,
+                    proposalVote.voteReason, proposalVote.voteChange);
+        }
+    }
+
+    // checks shared by all proposal votes of one transaction
+    private Address validateProposalVoter() {
         checkMaintenance();
         updatePeriod();
         PeriodController period = new PeriodController();
         Context.require(period.periodName.get().equals(VOTING_PERIOD),
                 TAG + ": Proposals can be voted only on Voting Period.");
         Address caller = Context.getCaller();
-        PReps pReps = new PReps();
-        Context.require(ArrayDBUtils.containsInArrayDb(caller, pReps.validPreps),
+        requireVoter(new PReps(), caller);
+        return caller;
+    }
+
+    private void requireVoter(PReps pReps, Address voter) {
+        Context.require(pReps.hasRole(voter, ROLE_VALID),
                 TAG + ": Voting can only be done by registered P-Reps.");
+        Context.require(!pReps.hasRole(voter, ROLE_BLOCKED),
+                TAG + ": You are blocked from CPS.");
+    }
+
+    private void applyProposalVote(Address caller, PReps pReps, BigInteger voterStake, String ipfsKey, String vote,
+                                   String voteReason, boolean voteChange) {
         Context.require(List.of(APPROVE, REJECT, ABSTAIN).contains(vote),
                 TAG + ": Vote should be either _approve, _reject or _abstain");
 
-        Map<String, Object> proposalDetails = getProposalDetails(ipfsKey);
         String proposalPrefix = proposalPrefix(ipfsKey);
-        String status = (String) proposalDetails.get(STATUS);
-
-        ArrayDB<Address> voterList = ProposalDataDb.votersList.at(proposalPrefix);
+        String proposalVotes = ProposalDataDb.votePrefix(proposalPrefix);
+        String status = ProposalDataDb.status.at(proposalPrefix).getOrDefault("");
 
-        Context.require(!ArrayDBUtils.containsInArrayDb(caller, blockAddresses),
-                TAG + ": You are blocked from CPS.");
+        ArrayDB<Address> voterList = ProposalDataDb.votersList.at(proposalVotes);
 
-        if (!voteChange && (ArrayDBUtils.containsInArrayDb(caller, voterList))) {
+        if (!voteChange && hasVoted(voterList, votersListIndex.at(proposalVotes), caller)) {
             Context.revert(TAG + ":: Already Voted");
 
         }
         Context.require(status.equals(PENDING), TAG + ": Proposal must be done in Voting state.");
 
-        BigInteger voterStake = getDelegation(caller);
-        Map<String, Object> proposalVoteDetails = getVoteResult(ipfsKey);
-        BigInteger totalVotes = (BigInteger) proposalVoteDetails.get(TOTAL_VOTES);
-        BigInteger approvedVotes = (BigInteger) proposalVoteDetails.get(APPROVED_VOTES);
-        BigInteger rejectedVotes = (BigInteger) proposalVoteDetails.get(REJECTED_VOTES);
-        BigInteger abstainedVotes = (BigInteger) proposalVoteDetails.get(ABSTAINED_VOTES);
-        Integer totalVoter = (Integer) proposalVoteDetails.get(TOTAL_VOTERS);
+        BigInteger totalVotes = ProposalDataDb.totalVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+        BigInteger approvedVotes = ProposalDataDb.approvedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+        BigInteger rejectedVotes = ProposalDataDb.rejectedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+        BigInteger abstainedVotes = ProposalDataDb.abstainedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+        Integer totalVoter = ProposalDataDb.totalVoters.at(proposalVotes).getOrDefault(0);
         if (totalVoter == 0 || totalVotes.equals(BigInteger.ZERO)) {
-            ProposalDataDb.totalVoters.at(proposalPrefix).set(pReps.validPreps.size());
-            ProposalDataDb.totalVotes.at(proposalPrefix).set(totalDelegationSnapshot.getOrDefault(BigInteger.ZERO));
+            totalVoter = pReps.validPreps.size();
+            totalVotes = totalDelegationSnapshot.getOrDefault(BigInteger.ZERO);
+            ProposalDataDb.totalVoters.at(proposalVotes).set(totalVoter);
+            ProposalDataDb.totalVotes.at(proposalVotes).set(totalVotes);
         }
 
-        DictDB<String, Integer> votersIndexDb = votersListIndex.at(proposalPrefix).at(caller);
+        DictDB<String, Integer> votersIndexDb = votersListIndex.at(proposalVotes).at(caller);
 
         if (!voteChange) {
-            ProposalDataDb.votersList.at(proposalPrefix).add(caller);
-            votersIndexDb.set(INDEX, ProposalDataDb.votersList.at(proposalPrefix).size());
-            ProposalDataDb.votersReasons.at(proposalPrefix).add(voteReason);
+            pReps.countVotes(getPeriodCount(), caller, 1);
+            if (pReps.isParticipationTracked(getPeriodCount())) {
+                new RemainingVotes().markVoted(getPeriodCount(), caller, PROPOSAL, ipfsKey);
+            }
+            ProposalDataDb.votersList.at(proposalVotes).add(caller);
+            votersIndexDb.set(INDEX, ProposalDataDb.votersList.at(proposalVotes).size());
+            ProposalDataDb.votersReasons.at(proposalVotes).add(voteReason);
         } else {
             Context.require(votersIndexDb.getOrDefault(CHANGE_VOTE, 0) == 0,
                     TAG + ": Vote change can be done only once.");
             votersIndexDb.set(CHANGE_VOTE, VOTED);
             int index = votersIndexDb.getOrDefault(INDEX, 0);
             int voteIndex = votersIndexDb.getOrDefault(VOTE, 0);
-            ProposalDataDb.votersReasons.at(proposalPrefix).set(index - 1, voteReason);
+            ProposalDataDb.votersReasons.at(proposalVotes).set(index - 1, voteReason);
             if (voteIndex == APPROVE_) {
                 if (vote.equals(APPROVE)) {
                     Context.revert(TAG + ":: Cannot cast same vote. Change your vote");
                 }
-                ArrayDBUtils.removeArrayItem(ProposalDataDb.approveVoters.at(proposalPrefix), caller);
-                ProposalDataDb.approvedVotes.at(proposalPrefix).set(approvedVotes.subtract(voterStake));
+                ArrayDBUtils.removeIndexedItem(ProposalDataDb.approveVoters.at(proposalVotes), votersListIndex.at(proposalVotes), caller);
+                ProposalDataDb.approvedVotes.at(proposalVotes).set(approvedVotes.subtract(voterStake));
             } else if (voteIndex == REJECT_) {
                 if (vote.equals(REJECT)) {
                     Context.revert(TAG + ":: Cannot cast same vote. Change your vote");
                 }
-                ArrayDBUtils.removeArrayItem(ProposalDataDb.rejectVoters.at(proposalPrefix), caller);
-                ProposalDataDb.rejectedVotes.at(proposalPrefix).set(rejectedVotes.subtract(voterStake));
+                ArrayDBUtils.removeIndexedItem(ProposalDataDb.rejectVoters.at(proposalVotes), votersListIndex.at(proposalVotes), caller);
+                ProposalDataDb.rejectedVotes.at(proposalVotes).set(rejectedVotes.subtract(voterStake));
             } else {
-                ArrayDBUtils.removeArrayItem(abstainVoters.at(proposalPrefix), caller);
-                ProposalDataDb.abstainedVotes.at(proposalPrefix).set(abstainedVotes.subtract(voterStake));
+                ArrayDBUtils.removeIndexedItem(abstainVoters.at(proposalVotes), votersListIndex.at(proposalVotes), caller);
+                ProposalDataDb.abstainedVotes.at(proposalVotes).set(abstainedVotes.subtract(voterStake));
             }
-            approvedVotes = ProposalDataDb.approvedVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO);
-            rejectedVotes = ProposalDataDb.rejectedVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO);
-            abstainedVotes = ProposalDataDb.abstainedVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO);
+            approvedVotes = ProposalDataDb.approvedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+            rejectedVotes = ProposalDataDb.rejectedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+            abstainedVotes = ProposalDataDb.abstainedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
 
         }
+        ArrayDB<Address> approveVoters = ProposalDataDb.approveVoters.at(proposalVotes);
         if (vote.equals(APPROVE)) {
-            ProposalDataDb.approveVoters.at(proposalPrefix).add(caller);
+            ArrayDBUtils.addIndexedItem(approveVoters, votersListIndex.at(proposalVotes), caller);
             votersIndexDb.set(VOTE, APPROVE_);
-            ProposalDataDb.approvedVotes.at(proposalPrefix).set(approvedVotes.add(voterStake));
+            approvedVotes = approvedVotes.add(voterStake);
+            ProposalDataDb.approvedVotes.at(proposalVotes).set(approvedVotes);
         } else if (vote.equals(REJECT)) {
-            ProposalDataDb.rejectVoters.at(proposalPrefix).add(caller);
+            ArrayDBUtils.addIndexedItem(ProposalDataDb.rejectVoters.at(proposalVotes), votersListIndex.at(proposalVotes), caller);
             votersIndexDb.set(VOTE, REJECT_);
-            ProposalDataDb.rejectedVotes.at(proposalPrefix).set(rejectedVotes.add(voterStake));
+            ProposalDataDb.rejectedVotes.at(proposalVotes).set(rejectedVotes.add(voterStake));
 
         } else {
-            abstainVoters.at(proposalPrefix).add(caller);
+            ArrayDBUtils.addIndexedItem(abstainVoters.at(proposalVotes), votersListIndex.at(proposalVotes), caller);
             votersIndexDb.set(VOTE, ABSTAIN_);
-            ProposalDataDb.abstainedVotes.at(proposalPrefix).set(abstainedVotes.add(voterStake));
+            ProposalDataDb.abstainedVotes.at(proposalVotes).set(abstainedVotes.add(voterStake));
         }
-        VotedSuccessfully(caller, "Proposal Vote for " + proposalDetails.get(PROJECT_TITLE) + " Successful.");
-        swapBNUsdToken();
+        ProposalDataDb.majorityApproved.at(proposalVotes).set(
+                isMajorityApproved(approveVoters.size(), totalVoter, approvedVotes, totalVotes));
+        VotedSuccessfully(caller, "Proposal Vote for " + getProposalRecord(proposalPrefix).projectTitle + " Successful.");
     }
 
 
@@ -817,14 +965,13 @@ public class CPSCore implements CPSCoreInterface {
             int milestoneId = milestoneIDs.get(i);
             String milestonePrefix = mileStonePrefix(ipfsHash, milestoneId);
             int proposalTotalPeriod = proposalPeriod.at(ipfsHAshPRefix).getOrDefault(0);
-            int completionPeriod = MilestoneDb.completionPeriod.at(milestonePrefix).getOrDefault(0);
+            MilestoneRecord milestoneRecord = getMilestoneRecord(milestonePrefix);
 
-            int computedCompletionPeriod = proposalTotalPeriod + completionPeriod;
+            int computedCompletionPeriod = proposalTotalPeriod + milestoneRecord.completionPeriod;
 
             int currentPeriod = getPeriodCount();
             if (currentPeriod >= computedCompletionPeriod) {
-                int status = MilestoneDb.status.at(milestonePrefix).getOrDefault(0);
-                if (status != MILESTONE_REPORT_APPROVED) {
+                if (milestoneRecord.status != MILESTONE_REPORT_APPROVED) {
                     milestoneIdList.add(milestoneId);
                 }
             }
@@ -846,10 +993,11 @@ public class CPSCore implements CPSCoreInterface {
         Context.require(!caller.isContract(), TAG + ": Contract Address not supported.");
 
         String ipfsHashPrefix = proposalPrefix(progressReport.ipfs_hash);
-        String tokenFlag = ProposalDataDb.token.at(ipfsHashPrefix).getOrDefault("");
+        ProposalRecord proposalRecord = getProposalRecord(ipfsHashPrefix);
+        String tokenFlag = proposalRecord.token;
         Context.require(tokenFlag.equals(bnUSD), TAG + ": " + tokenFlag + " Not a supported token.");
 
-        Address contributorAddress = ProposalDataDb.contributorAddress.at(ipfsHashPrefix).get();
+        Address contributorAddress = proposalRecord.contributorAddress;
         Context.require(caller.equals(contributorAddress),
                 TAG + ": Sorry, You are not the contributor for this project.");
 
@@ -868,9 +1016,9 @@ public class CPSCore implements CPSCoreInterface {
         String reportHashPrefix = progressReportPrefix(reportHash);
 
         addDataToProgressReportDB(progressReport, reportHashPrefix);
-        int totalMilestoneCount = ProposalDataDb.getMilestoneCount(ipfsHashPrefix);
+        int totalMilestoneCount = proposalRecord.milestoneCount;
         int currentPeriod = getPeriodCount();
-        int duration = projectDuration.at(ipfsHashPrefix).get();
+        int duration = proposalRecord.projectDuration;
         int totalPeriod = duration + proposalPeriod.at(ipfsHashPrefix).getOrDefault(0);
 
         if (totalMilestoneCount != 0) {
@@ -899,14 +1047,16 @@ public class CPSCore implements CPSCoreInterface {
                     stats = MILESTONE_REPORT_COMPLETED;
                 }
                 String milestonePrefix = mileStonePrefix(ipfsHash, milestoneAttr.id);
-                MilestoneDb.status.at(milestonePrefix).set(stats);
-                MilestoneDb.progressReportHash.at(milestonePrefix).set(reportHash);
+                MilestoneRecord milestoneRecord = getMilestoneRecord(milestonePrefix);
+                milestoneRecord.status = stats;
+                milestoneRecord.progressReportHash = reportHash;
+                setMilestoneRecord(milestonePrefix, milestoneRecord);
                 milestoneSubmitted.at(reportHashPrefix).add(milestoneAttr.id);
             }
 
         }
 
-        if (progressReport.budget_adjustment) {
+        if (Boolean.TRUE.equals(progressReport.budget_adjustment)) {
             Context.require(getBudgetAdjustmentFeature(),
                     TAG + ": Budget Adjustment feature is disabled for the moment.");
 
@@ -914,7 +1064,7 @@ public class CPSCore implements CPSCoreInterface {
             Context.require(!budgetAdjustment,
                     TAG + ": Budget Adjustment Already submitted for this proposal.");
 
-            int projectDuration = ProposalDataDb.projectDuration.at(ipfsHashPrefix).get();
+            int projectDuration = proposalRecord.projectDuration;
             Context.require(progressReport.additional_month + projectDuration <= MAX_PROJECT_PERIOD,
                     TAG + ": Maximum period for a project is " + MAX_PROJECT_PERIOD + " months.");
 
@@ -927,8 +1077,7 @@ public class CPSCore implements CPSCoreInterface {
 
         submitProgressReport.at(ipfsHashPrefix).set(true);
         Status _status = new Status();
-        _status.waitingProgressReports.add(reportHash);
-        swapBNUsdToken();
+        _status.addProgressReport(reportHash, WAITING);
         ProgressReportSubmitted(caller, progressReport.progress_report_title +
                 " --> Progress Report Submitted Successfully.");
     }
@@ -965,10 +1114,63 @@ public class CPSCore implements CPSCoreInterface {
     @External
     public void voteProgressReport(String reportKey, String voteReason, MilestoneVoteAttributes[] votes,
                                    @Optional String budgetAdjustmentVote, @Optional boolean voteChange) {
-        if (budgetAdjustmentVote == null) {
-            budgetAdjustmentVote = "";
+        Address caller = validateProgressReportVoter();
+        applyProgressReportVote(caller, new PReps(), getDelegation(caller), reportKey, voteReason, votes,
+                budgetAdjustmentVote, voteChange);
+    }
+
+    @Override
+    @External
+    public void voteProgressReports(ProgressReportVote[] votes) {
+        Context.require(votes.length > 0, TAG + ": No votes to cast.");
+        Address caller = validateProgressReportVoter();
+        PReps pReps = new PReps();
+        BigInteger voterStake = getDelegation(caller);
+        for (ProgressReportVote reportVote : votes) {
+            applyProgressReportVote(caller, pReps, voterStake, reportVote.reportKey, reportVote.voteReason,
+                    reportVote.votes, reportVote.budgetAdjustmentVote, reportVote.voteChange);
         }
+    }
 
+    @Override
+    @External
+    public void submitSignedVotes(SignedVoteBatch[] batches) {
+        Context.require(batches.length > 0, TAG + ": No votes to cast.");
+        checkMaintenance();
+        updatePeriod();
+        PeriodController period = new PeriodController();
+        Context.require(period.periodName.get().equals(VOTING_PERIOD),
+                TAG + ": Votes can be submitted only on Voting Period.");
+        PReps pReps = new PReps();
+        VoteSignatures voteSignatures = new VoteSignatures();
+        int periodCount = getPeriodCount();
+        for (SignedVoteBatch batch : batches) {
+            voteSignatures.verify(periodCount, batch);
+            requireVoter(pReps, batch.voter);
+            BigInteger voterStake = getDelegation(batch.voter);
+            if (batch.proposalVotes != null) {
+                for (ProposalVote vote : batch.proposalVotes) {
+                    applyProposalVote(batch.voter, pReps, voterStake, vote.ipfsKey, vote.vote, vote.voteReason,
+                            vote.voteChange);
+                }
+            }
+            if (batch.progressReportVotes != null) {
+                for (ProgressReportVote vote : batch.progressReportVotes) {
+                    applyProgressReportVote(batch.voter, pReps, voterStake, vote.reportKey, vote.voteReason,
+                            vote.votes, vote.budgetAdjustmentVote, vote.voteChange);
+                }
+            }
+        }
+    }
+
+    @Override
+    @External(readonly = true)
+    public BigInteger getVoteNonce(Address voter) {
+        return new VoteSignatures().getNonce(getPeriodCount(), voter);
+    }
+
+    // checks shared by all progress report votes of one transaction
+    private Address validateProgressReportVoter() {
         checkMaintenance();
         updatePeriod();
         PeriodController period = new PeriodController();
@@ -976,10 +1178,20 @@ public class CPSCore implements CPSCoreInterface {
                 TAG + ": Progress Reports can be voted only on Voting Period.");
         Address caller = Context.getCaller();
         PReps pReps = new PReps();
-        Context.require(!ArrayDBUtils.containsInArrayDb(caller, blockAddresses),
+        Context.require(!pReps.hasRole(caller, ROLE_BLOCKED),
                 TAG + ": You are blocked from CPS.");
-        Context.require(ArrayDBUtils.containsInArrayDb(caller, pReps.validPreps),
+        Context.require(pReps.hasRole(caller, ROLE_VALID),
                 TAG + ": Voting can only be done by registered P-Reps.");
+        return caller;
+    }
+
+    private void applyProgressReportVote(Address caller, PReps pReps, BigInteger voterStake, String reportKey,
+                                         String voteReason, MilestoneVoteAttributes[] votes,
+                                         String budgetAdjustmentVote, boolean voteChange) {
+        if (budgetAdjustmentVote == null) {
+            budgetAdjustmentVote = "";
+        }
+        Context.require(votes != null && votes.length > 0, TAG + ": No milestone votes to cast.");
         String progressReportPrefix = progressReportPrefix(reportKey);
         ArrayDB<Integer> submittedMilestones = milestoneSubmitted.at(progressReportPrefix);// CAN TAKE FROM READONLY METHOD
         for (MilestoneVoteAttributes milestoneVote : votes) {
@@ -997,15 +1209,13 @@ public class CPSCore implements CPSCoreInterface {
                 Context.revert(TAG + ":: You should submit votes for all milestones of the progress report");
             }
         }
-        Map<String, Object> progressReportDetails = getProgressReportDetails(reportKey);
-        String status = (String) progressReportDetails.get(STATUS);
-
+        String status = ProgressReportDataDb.status.at(progressReportPrefix).getOrDefault("");
         if (!status.equals(WAITING)) {
             Context.revert(TAG + ": Voting can be only be done in waiting progress reports.");
         }
 
-        BigInteger voterStake = getDelegation(caller);
-        String proposalKey = ProgressReportDataDb.ipfsHash.at(progressReportPrefix).get();
+        ProgressReportRecord progressReportRecord = getProgressReportRecord(progressReportPrefix);
+        String proposalKey = progressReportRecord.ipfsHash;
 
         BigInteger totalVotes = ProgressReportDataDb.totalVotes.at(progressReportPrefix).getOrDefault(BigInteger.ZERO);
         Integer totalVoter = ProgressReportDataDb.totalVoters.at(progressReportPrefix).getOrDefault(0);
@@ -1016,77 +1226,88 @@ public class CPSCore implements CPSCoreInterface {
         }
 
         DictDB<Address, Integer> voteChanged = ProgressReportDataDb.voteChange.at(progressReportPrefix);
-
         if (voteChanged.getOrDefault(caller, NOT_VOTED) == 1) {
             Context.revert(TAG + ":: Vote change can be done only once.");
         }
+
+        // report level bookkeeping, the voter keeps the same position in the voter list of every milestone
+        ArrayDB<String> votersReasons = ProgressReportDataDb.votersReasons.at(progressReportPrefix);
+        String firstMilestonePrefix = mileStonePrefix(proposalKey, submittedMilestones.get(0));
+        String firstMilestoneVotes = MilestoneDb.votePrefix(firstMilestonePrefix);
+        // reports voted before this change hold one reason per milestone vote
+        boolean reasonPerMilestone = votersReasons.size() != MilestoneDb.votersList.at(firstMilestoneVotes).size();
+        if (!voteChange) {
+            pReps.countVotes(getPeriodCount(), caller, votes.length);
+            if (pReps.isParticipationTracked(getPeriodCount())) {
+                new RemainingVotes().markVoted(getPeriodCount(), caller, PROGRESS_REPORTS, reportKey);
+            }
+            int reasons = reasonPerMilestone ? votes.length : 1;
+            for (int i = 0; i < reasons; i++) {
+                votersReasons.add(voteReason);
+            }
+        } else {
+            voteChanged.set(caller, VOTED);
+            int index = MilestoneDb.votersListIndices.at(firstMilestoneVotes).at(caller).getOrDefault(INDEX, 0);
+            votersReasons.set(index - 1, voteReason);
+        }
+
         for (MilestoneVoteAttributes milestoneVote : votes) {
             String milestonePrefix = mileStonePrefix(proposalKey, milestoneVote.id);
-            ArrayDB<Address> voterList = MilestoneDb.votersList.at(milestonePrefix);
-            if (!voteChange && (ArrayDBUtils.containsInArrayDb(caller, voterList))) {
+            String milestoneVotes = MilestoneDb.votePrefix(milestonePrefix);
+            ArrayDB<Address> voterList = MilestoneDb.votersList.at(milestoneVotes);
+            if (!voteChange && hasVoted(voterList, MilestoneDb.votersListIndices.at(milestoneVotes), caller)) {
                 Context.revert(TAG + ":: Already Voted");
 
             }
 
-            Map<String, Object> milestoneDetails = getDataFromMilestoneDB(milestonePrefix);
-            BigInteger approvedVotes = (BigInteger) milestoneDetails.get(APPROVED_VOTES);
-            BigInteger rejectedVotes = (BigInteger) milestoneDetails.get(REJECTED_VOTES);
+            BigInteger approvedVotes = MilestoneDb.approvedVotes.at(milestoneVotes).getOrDefault(BigInteger.ZERO);
+            BigInteger rejectedVotes = MilestoneDb.rejectedVotes.at(milestoneVotes).getOrDefault(BigInteger.ZERO);
 
-            DictDB<String, Integer> votersIndexDb = MilestoneDb.votersListIndices.at(milestonePrefix).at(caller);
+            DictDB<String, Integer> votersIndexDb = MilestoneDb.votersListIndices.at(milestoneVotes).at(caller);
             if (!voteChange) {
-                MilestoneDb.votersList.at(milestonePrefix).add(caller);
-                votersIndexDb.set(INDEX, MilestoneDb.votersList.at(milestonePrefix).size());
-                ProgressReportDataDb.votersReasons.at(progressReportPrefix).add(voteReason);
+                voterList.add(caller);
+                votersIndexDb.set(INDEX, voterList.size());
             } else {
-                voteChanged.set(caller, VOTED);
-                int index = votersIndexDb.getOrDefault(INDEX, 0);
                 int voteIndex = votersIndexDb.getOrDefault(VOTE, 0);
-                ProgressReportDataDb.votersReasons.at(progressReportPrefix).set(index - 1, voteReason);
                 if (voteIndex == APPROVE_) {
                     if (milestoneVote.vote.equals(APPROVE)) {
                         Context.revert(TAG + ": Cannot cast same vote. Change your vote");
                     }
-                    ArrayDBUtils.removeArrayItem(MilestoneDb.approveVoters.at(milestonePrefix), caller);
-                    MilestoneDb.approvedVotes.at(milestonePrefix).set(approvedVotes.subtract(voterStake));
+                        ArrayDBUtils.removeIndexedItem(MilestoneDb.approveVoters.at(milestoneVotes), MilestoneDb.votersListIndices.at(milestoneVotes), caller);
+                    approvedVotes = approvedVotes.subtract(voterStake);
+                    MilestoneDb.approvedVotes.at(milestoneVotes).set(approvedVotes);
                 } else {
                     if (milestoneVote.vote.equals(REJECT)) {
                         Context.revert(TAG + ": Cannot cast same vote. Change your vote");
                     }
-                    ArrayDBUtils.removeArrayItem(MilestoneDb.rejectVoters.at(milestonePrefix), caller);
-                    MilestoneDb.rejectedVotes.at(milestonePrefix).set(rejectedVotes.subtract(voterStake));
+                        ArrayDBUtils.removeIndexedItem(MilestoneDb.rejectVoters.at(milestoneVotes), MilestoneDb.votersListIndices.at(milestoneVotes), caller);
+                    rejectedVotes = rejectedVotes.subtract(voterStake);
+                    MilestoneDb.rejectedVotes.at(milestoneVotes).set(rejectedVotes);
                 }
             }
 
-            boolean budgetAdjustment = (boolean) progressReportDetails.get(BUDGET_ADJUSTMENT);
-            if (budgetAdjustment && getBudgetAdjustmentFeature()) { //
-                budgetAdjustment(reportKey, budgetAdjustmentVote, voteChange);
-            }
-            approvedVotes = MilestoneDb.approvedVotes.at(milestonePrefix).getOrDefault(BigInteger.ZERO);
-            rejectedVotes = MilestoneDb.rejectedVotes.at(milestonePrefix).getOrDefault(BigInteger.ZERO);
             if (milestoneVote.vote.equals(APPROVE)) {
-                MilestoneDb.approveVoters.at(milestonePrefix).add(caller);
+                ArrayDBUtils.addIndexedItem(MilestoneDb.approveVoters.at(milestoneVotes), MilestoneDb.votersListIndices.at(milestoneVotes), caller);
                 votersIndexDb.set(VOTE, APPROVE_);
-                MilestoneDb.approvedVotes.at(milestonePrefix).set(approvedVotes.add(voterStake));
+                MilestoneDb.approvedVotes.at(milestoneVotes).set(approvedVotes.add(voterStake));
 
             } else {
-                MilestoneDb.rejectVoters.at(milestonePrefix).add(caller);
+                ArrayDBUtils.addIndexedItem(MilestoneDb.rejectVoters.at(milestoneVotes), MilestoneDb.votersListIndices.at(milestoneVotes), caller);
                 votersIndexDb.set(VOTE, REJECT_);
-                MilestoneDb.rejectedVotes.at(milestonePrefix).set(rejectedVotes.add(voterStake));
+                MilestoneDb.rejectedVotes.at(milestoneVotes).set(rejectedVotes.add(voterStake));
 
             }
-            if (budgetAdjustment && getBudgetAdjustmentFeature()) {
-                budgetAdjustment(reportKey, budgetAdjustmentVote, voteChange);
+        }
 
-            }
-            VotedSuccessfully(caller, "Progress Report Vote for " + progressReportDetails.get(PROGRESS_REPORT_TITLE) + " Successful.");
-            swapBNUsdToken();
+        if (progressReportRecord.budgetAdjustment && getBudgetAdjustmentFeature()) {
+            budgetAdjustment(caller, reportKey, budgetAdjustmentVote, voteChange, voterStake);
         }
+        VotedSuccessfully(caller, "Progress Report Vote for " + progressReportRecord.progressReportTitle + " Successful.");
     }
 
-    private void budgetAdjustment(String reportKey, String budgetAdjustmentVote, boolean voteChange) {
+    private void budgetAdjustment(Address caller, String reportKey, String budgetAdjustmentVote, boolean voteChange,
+                                  BigInteger voterStake) {
         String progressReportPrefix = progressReportPrefix(reportKey);
-        Address caller = Context.getCaller();
-        BigInteger voterStake = getDelegation(caller);
         if (ArrayDBUtils.containsInArrayDb(reportKey, budgetApprovalsList)) {
             BigInteger budgetApprovedVotes = ProgressReportDataDb.budgetApprovedVotes.at(progressReportPrefix).getOrDefault(BigInteger.ZERO);
             BigInteger budgetRejectedVotes = ProgressReportDataDb.budgetRejectedVotes.at(progressReportPrefix).getOrDefault(BigInteger.ZERO);
@@ -1094,10 +1315,10 @@ public class CPSCore implements CPSCoreInterface {
             if (voteChange) {
                 int budgetVoteIndex = budgetVotersListIndices.at(progressReportPrefix).at(caller).getOrDefault(VOTE, 0);
                 if (budgetVoteIndex == APPROVE_) {
-                    ArrayDBUtils.removeArrayItem(budgetApproveVoters.at(progressReportPrefix), caller);
+                    ArrayDBUtils.removeIndexedItem(budgetApproveVoters.at(progressReportPrefix), budgetVotersListIndices.at(progressReportPrefix), caller);
                     ProgressReportDataDb.budgetApprovedVotes.at(progressReportPrefix).set(budgetApprovedVotes.subtract(voterStake));
                 } else if (budgetVoteIndex == REJECT_) {
-                    ArrayDBUtils.removeArrayItem(budgetRejectVoters.at(progressReportPrefix), caller);
+                    ArrayDBUtils.removeIndexedItem(budgetRejectVoters.at(progressReportPrefix), budgetVotersListIndices.at(progressReportPrefix), caller);
                     ProgressReportDataDb.budgetRejectedVotes.at(progressReportPrefix).set(budgetRejectedVotes.subtract(voterStake));
                 } else {
                     Context.revert(TAG + ": Choose option " + APPROVE + " or " + REJECT + " for budget adjustment");
@@ -1105,11 +1326,11 @@ public class CPSCore implements CPSCoreInterface {
             } else {
                 DictDB<String, Integer> budgetVoteIndex = budgetVotersListIndices.at(progressReportPrefix).at(caller);
                 if (budgetAdjustmentVote.equals(APPROVE)) {
-                    ProgressReportDataDb.budgetApproveVoters.at(progressReportPrefix).add(caller);
+                    ArrayDBUtils.addIndexedItem(budgetApproveVoters.at(progressReportPrefix), budgetVotersListIndices.at(progressReportPrefix), caller);
                     ProgressReportDataDb.budgetApprovedVotes.at(progressReportPrefix).set(budgetApprovedVotes.add(voterStake));
                     budgetVoteIndex.set(VOTE, APPROVE_);
                 } else if (budgetAdjustmentVote.equals(REJECT)) {
-                    ProgressReportDataDb.budgetRejectVoters.at(progressReportPrefix).add(caller);
+                    ArrayDBUtils.addIndexedItem(budgetRejectVoters.at(progressReportPrefix), budgetVotersListIndices.at(progressReportPrefix), caller);
                     ProgressReportDataDb.budgetRejectedVotes.at(progressReportPrefix).set(budgetRejectedVotes.add(voterStake));
                     budgetVoteIndex.set(VOTE, REJECT_);
                 } else {
@@ -1133,7 +1354,7 @@ public class CPSCore implements CPSCoreInterface {
     public int checkChangeVote(Address address, String ipfsHash, String proposalType) {
         if (proposalType.equals(PROPOSAL)) {
             String proposalPrefix = proposalPrefix(ipfsHash);
-            return ProposalDataDb.votersListIndex.at(proposalPrefix).at(address).getOrDefault(CHANGE_VOTE, NOT_VOTED);
+            return ProposalDataDb.votersListIndex.at(ProposalDataDb.votePrefix(proposalPrefix)).at(address).getOrDefault(CHANGE_VOTE, NOT_VOTED);
         } else if (proposalType.equals(PROGRESS_REPORTS)) {
             String progressReportPrefix = progressReportPrefix(ipfsHash);
             return ProgressReportDataDb.voteChange.at(progressReportPrefix).getOrDefault(address, NOT_VOTED);
@@ -1146,6 +1367,18 @@ public class CPSCore implements CPSCoreInterface {
     @External(readonly = true)
     public Map<String, Object> getProjectAmounts() {
         List<String> statusList = List.of(PENDING, ACTIVE, PAUSED, COMPLETED, DISQUALIFIED);
+        ProjectAmounts projectAmounts = new ProjectAmounts();
+        if (projectAmounts.ready.getOrDefault(false)) {
+            Status status = new Status();
+            Map<String, Object> amounts = new HashMap<>();
+            for (String proposalStatus : statusList) {
+                amounts.put(proposalStatus, Map.of(AMOUNT, Map.of(ICX, projectAmounts.getAmount(proposalStatus, ICX),
+                                bnUSD, projectAmounts.getAmount(proposalStatus, bnUSD)),
+                        COUNT, status.proposalStatus.get(proposalStatus).size()));
+            }
+            return amounts;
+        }
+
         BigInteger pendingAmountIcx = BigInteger.ZERO;
         BigInteger activeAmountIcx = BigInteger.ZERO;
         BigInteger pausedAmountIcx = BigInteger.ZERO;
@@ -1165,8 +1398,9 @@ public class CPSCore implements CPSCoreInterface {
             List<String> proposalsKeysByStatus = this.getProposalsKeysByStatus(statusList.get(statusId));
             for (String proposalKey : proposalsKeysByStatus) {
                 String proposalPrefix = proposalPrefix(proposalKey);
-                BigInteger projectBudget = ProposalDataDb.totalBudget.at(proposalPrefix).getOrDefault(BigInteger.ZERO);
-                String token = ProposalDataDb.token.at(proposalPrefix).getOrDefault("");
+                ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+                BigInteger projectBudget = proposalRecord.totalBudget;
+                String token = proposalRecord.token;
                 if (token.equals(ICX)) {
                     amountICX = amountICX.add(projectBudget);
                 } else {
@@ -1218,6 +1452,47 @@ public class CPSCore implements CPSCoreInterface {
     @Override
     @External
     public void updatePeriod() {
+        updatePeriod(PERIOD_UPDATE_BATCH_SIZE);
+    }
+
+    @Override
+    @External
+    public void processPeriodStep(int maxItems) {
+        Context.require(maxItems > 0, TAG + ": Items to process should be greater than zero.");
+        updatePeriod(maxItems);
+    }
+
+    @Override
+    @External(readonly = true)
+    public Map<String, Object> getPeriodUpdateProgress() {
+        PeriodController period = new PeriodController();
+        Status status = new Status();
+        int stage = period.updatePeriodIndex.getOrDefault(0);
+        int processed = period.updatePeriodCursor.getOrDefault(0);
+        int remaining = 0;
+        if (period.periodName.getOrDefault("").equals(TRANSITION_PERIOD) ||
+                (period.periodName.getOrDefault("").equals(VOTING_PERIOD) && stage == 0)) {
+            boolean queueFilled = period.isUpdatePeriodQueueFilled();
+            if (stage == 0) {
+                remaining = queueFilled ? period.updatePeriodQueue.size() - processed : status.pending.size();
+            } else if (stage == 1) {
+                remaining = getActiveProposals().size() - processed;
+            } else if (stage == 2) {
+                remaining = queueFilled ? period.updatePeriodQueue.size() - processed :
+                        status.waitingProgressReports.size();
+            }
+        }
+        return Map.of(PERIOD_NAME, period.periodName.getOrDefault("None"),
+                UPDATE_STAGE, stage,
+                ITEMS_PROCESSED, processed,
+                ITEMS_REMAINING, remaining);
+    }
+
+    /***
+     Moves the period forward. The stages from voting to application period handle at most maxItems
+     proposals or progress reports per call and keep a cursor, so the update resumes on the next call.
+     ***/
+    private void updatePeriod(int maxItems) {
         checkMaintenance();
         BigInteger currentBlock = BigInteger.valueOf(Context.getBlockHeight());
         PeriodController period = new PeriodController();
@@ -1234,31 +1509,60 @@ public class CPSCore implements CPSCoreInterface {
                 period.updatePeriodIndex.set(0);
                 setPreps();
                 snapshotDelegation();
+                if (period.periodName.get().equals(VOTING_PERIOD)) {
+                    pReps.requiredVotes.set(getPeriodCount(), countRequiredVotes());
+                }
 
                 int activeProposalCount = status.pending.size() + status.waitingProgressReports.size();
-                swapCount.set(activeProposalCount + pReps.validPreps.size());
+                updateSwapCount(activeProposalCount + pReps.validPreps.size());
 
             } else {
                 Integer updateIndex = period.updatePeriodIndex.get();
                 if (updateIndex == 0) {
-                    period.periodName.set(TRANSITION_PERIOD);
-                    period.previousPeriodName.set(APPLICATION_PERIOD);
-                    period.updatePeriodIndex.set(updateIndex + 1);
-                    updateProposalsResult();
-
-                    PeriodUpdate("Period Update State 1/4. Period Updated to Transition Period. " +
-                            "After all the calculations are completed, " +
-                            "Period will change to " + APPLICATION_PERIOD);
+                    if (!period.periodName.get().equals(TRANSITION_PERIOD)) {
+                        period.periodName.set(TRANSITION_PERIOD);
+                        period.previousPeriodName.set(APPLICATION_PERIOD);
+                        period.distributionAmount.set(getRemainingFund().get(bnUSD));
+                    }
+                    // the queue holds the pending proposals by priority, proposals staying pending are ranked
+                    // again in the next generation
+                    PriorityRanking priorityRanking = new PriorityRanking();
+                    boolean filled = period.isUpdatePeriodQueueFilled();
+                    if (!filled && (priorityRanking.isSynced(status.pending) ||
+                            priorityRanking.build(status.pending, period.updatePeriodFillCursor, maxItems)) &&
+                            fillUpdatePeriodQueue(priorityRanking.getRankingDb(), maxItems)) {
+                        priorityRanking.nextGeneration();
+                        filled = true;
+                    }
+                    if (filled && updateProposalsResult(maxItems)) {
+                        period.updatePeriodIndex.set(updateIndex + 1);
+                        PeriodUpdate("Period Update State 1/4. Period Updated to Transition Period. " +
+                                "After all the calculations are completed, " +
+                                "Period will change to " + APPLICATION_PERIOD);
+                    }
                 } else if (updateIndex == 1) {
-                    checkProgressReportSubmission();
-                    period.updatePeriodIndex.set(updateIndex + 1);
-                    PeriodUpdate("Period Update State 2/4. Progress Reports Checks Completed.");
+                    int cursor = period.updatePeriodCursor.getOrDefault(0);
+                    int activeCount = getActiveProposals().size();
+                    int end = Math.min(cursor + maxItems, activeCount);
+                    checkProgressReportSubmission(cursor, end);
+                    if (end < activeCount) {
+                        period.updatePeriodCursor.set(end);
+                    } else {
+                        period.updatePeriodCursor.set(0);
+                        period.updatePeriodIndex.set(updateIndex + 1);
+                        PeriodUpdate("Period Update State 2/4. Progress Reports Checks Completed.");
+                    }
                 } else if (updateIndex == 2) {
-                    updateProgressReportResult();
-                    period.updatePeriodIndex.set(updateIndex + 1);
-                    PeriodUpdate("Period Update State 3/4. Progress Reports Calculations Completed.");
+                    if (fillUpdatePeriodQueue(status.waitingProgressReports, maxItems) &&
+                            updateProgressReportResult(maxItems)) {
+                        period.updatePeriodIndex.set(updateIndex + 1);
+                        PeriodUpdate("Period Update State 3/4. Progress Reports Calculations Completed.");
+                    }
                 } else {
                     SetterGetter setterGetter = new SetterGetter();
+                    if (pReps.isParticipationTracked(getPeriodCount())) {
+                        pReps.updateInactivePreps(getPeriodCount());
+                    }
                     updateDenylistPreps();
                     period.nextBlock.set(nextBlock.add(BLOCKS_DAY_COUNT.multiply(getApplicationPeriod())));
                     period.periodName.set(APPLICATION_PERIOD);
@@ -1267,7 +1571,7 @@ public class CPSCore implements CPSCoreInterface {
                     setPreps();
 
                     int activeProposalCount = status.active.size() + status.paused.size();
-                    swapCount.set(activeProposalCount + activeProposalCount * pReps.validPreps.size());
+                    updateSwapCount(activeProposalCount + activeProposalCount * pReps.validPreps.size());
                     callScore(setterGetter.cpfScore.get(), "resetSwapState");
 
                     ArrayDBUtils.clearArrayDb(budgetApprovalsList);
@@ -1283,50 +1587,85 @@ public class CPSCore implements CPSCoreInterface {
     }
 
 
+    /***
+     Empties the queue of the previous stage and copies the items into it, at most maxItems entries per call.
+     The items do not change during the transition period. Returns true once the queue holds all of them.
+     ***/
+    private boolean fillUpdatePeriodQueue(ArrayDB<String> items, int maxItems) {
+        PeriodController period = new PeriodController();
+        if (period.isUpdatePeriodQueueFilled()) {
+            return true;
+        }
+        ArrayDB<String> queue = period.updatePeriodQueue;
+        int filled = period.updatePeriodFillCursor.getOrDefault(0);
+        int budget = maxItems;
+        if (filled == 0) {
+            while (budget > 0 && queue.size() > 0) {
+                queue.pop();
+                budget--;
+            }
+            if (queue.size() > 0) {
+                return false;
+            }
+        }
+
+        int size = items.size();
+        int end = Math.min(filled + budget, size);
+        for (int i = filled; i < end; i++) {
+            queue.add(items.get(i));
+        }
+        if (end < size) {
+            period.updatePeriodFillCursor.set(end);
+            return false;
+        }
+        period.updatePeriodFillCursor.set(0);
+        period.updatePeriodQueueFilled.set(true);
+        return true;
+    }
+
+    // moves the cursor of the current stage, returns true once the whole queue is processed
+    private boolean advanceUpdatePeriodCursor(int end) {
+        PeriodController period = new PeriodController();
+        if (end < period.updatePeriodQueue.size()) {
+            period.updatePeriodCursor.set(end);
+            return false;
+        }
+        period.updatePeriodCursor.set(0);
+        period.updatePeriodQueueFilled.set(false);
+        return true;
+    }
+
     private void updateDenylistPreps() {
         PReps pReps = new PReps();
         for (int i = 0; i < pReps.inactivePreps.size(); i++) {
             Address prep = pReps.inactivePreps.get(i);
-            ArrayDBUtils.removeArrayItem(pReps.registeredPreps, prep);
-            pReps.denylist.add(prep);
+            pReps.removeRole(prep, ROLE_REGISTERED);
+            pReps.addRole(prep, ROLE_DENYLISTED);
             int count = pReps.prepsDenylistStatus.getOrDefault(prep.toString(), 0) + 1;
             pReps.prepsDenylistStatus.set(prep.toString(), Math.min(count, 3));
             PRepPenalty(prep, "P-Rep added to Denylist.");
 
         }
-        ArrayDBUtils.clearArrayDb(pReps.inactivePreps);
+        pReps.clearRole(ROLE_INACTIVE);
     }
 
 
-    private void updateMilestoneDB(String milestonePrefix) {
-        MilestoneDb.approvedVotes.at(milestonePrefix).set(BigInteger.ZERO);
-        clearArrayDb(MilestoneDb.approveVoters.at(milestonePrefix));
-
-        MilestoneDb.rejectedVotes.at(milestonePrefix).set(BigInteger.ZERO);
-        clearArrayDb(MilestoneDb.rejectVoters.at(milestonePrefix));
-
-        ArrayDB<Address> voters = MilestoneDb.votersList.at(milestonePrefix);
-        for (int i = 0; i < voters.size(); i++) {
-            Address prep = voters.get(i);
-            DictDB<String, Integer> prepVote = MilestoneDb.votersListIndices.at(milestonePrefix).at(prep);
-            prepVote.set(INDEX, 0);
-            prepVote.set(VOTE, 0);
-        }
-        clearArrayDb(MilestoneDb.votersList.at(milestonePrefix));
-    }
-
     /***
      Calculate votes for the progress reports and update the status and get the Installment and Sponsor
      Reward is the progress report is accepted.
      :return:
      ***/
 
-    private void updateProgressReportResult() {
-        Status status = new Status();
-        List<String> waiting_progress_reports = arrayDBtoList(status.waitingProgressReports);
+    private boolean updateProgressReportResult(int maxItems) {
+        PeriodController period = new PeriodController();
+        ArrayDB<String> waiting_progress_reports = period.updatePeriodQueue;
+        int cursor = period.updatePeriodCursor.getOrDefault(0);
+        int end = Math.min(cursor + maxItems, waiting_progress_reports.size());
         PReps pReps = new PReps();
+        boolean participationTracked = pReps.isParticipationTracked(getPeriodCount());
 
-        for (String _reports : waiting_progress_reports) {
+        for (int reportIndex = cursor; reportIndex < end; reportIndex++) {
+            String _reports = waiting_progress_reports.get(reportIndex);
             Map<String, Object> _report_result = getProgressReportDetails(_reports);
 
             String _ipfs_hash = (String) _report_result.get(IPFS_HASH);
@@ -1363,7 +1702,10 @@ public class CPSCore implements CPSCoreInterface {
                 String milestonePrefix = mileStonePrefix(_ipfs_hash, milestoneSubmitted.get(i));
 
                 // checking which prep(s) did not vote the progress report
-                checkInactivePreps(MilestoneDb.votersList.at(milestonePrefix));
+                if (!participationTracked) {
+                    String milestoneVotes = MilestoneDb.votePrefix(milestonePrefix);
+                    checkInactivePreps(MilestoneDb.votersList.at(milestoneVotes));
+                }
 
                 Map<String, Object> _milestone_details = getDataFromMilestoneDB(milestonePrefix);
 
@@ -1374,8 +1716,8 @@ public class CPSCore implements CPSCoreInterface {
                 int _total_voters = ProgressReportDataDb.totalVoters.at(progressPrefix).getOrDefault(0);
 
                 if (_total_voters == 0 || _total_votes.equals(BigInteger.ZERO) || _main_preps_list.size() < MINIMUM_PREPS) {
-                    MilestoneDb.status.at(milestonePrefix).set(MILESTONE_REPORT_REJECTED);
-                    updateMilestoneDB(milestonePrefix);
+                    MilestoneDb.setStatus(milestonePrefix, MILESTONE_REPORT_REJECTED);
+                    MilestoneDb.resetVotes(milestonePrefix);
                 } else {
                     double votersRatio = (double) _approve_voters / _total_voters;
                     double votesRatio = _approved_votes.doubleValue() / _total_votes.doubleValue();
@@ -1384,8 +1726,8 @@ public class CPSCore implements CPSCoreInterface {
 
                         if (milestoneStatus == MILESTONE_REPORT_COMPLETED) {
                             milestonePassed += 1;
-                            milestoneBudget = milestoneBudget.add(MilestoneDb.budget.at(milestonePrefix).getOrDefault(BigInteger.ZERO));
-                            MilestoneDb.status.at(milestonePrefix).set(MILESTONE_REPORT_APPROVED);
+                            milestoneBudget = milestoneBudget.add((BigInteger) _milestone_details.get(BUDGET));
+                            MilestoneDb.setStatus(milestonePrefix, MILESTONE_REPORT_APPROVED);
                             int percentageCompleted = (_approved_reports_count * 100) / milestoneCount;
                             ProposalDataDb.updatePercentageCompleted(proposal_prefix, percentageCompleted);
 
@@ -1399,7 +1741,7 @@ public class CPSCore implements CPSCoreInterface {
                                 DictDB<String, BigInteger> userSponsorBond = this.sponsorBondReturn.at(_sponsor_address.toString());
                                 BigInteger sponsorBond = userSponsorBond.getOrDefault(flag, BigInteger.ZERO);
                                 userSponsorBond.set(flag, sponsorBond.add(_sponsor_deposit_amount));
-                                sponsorDepositStatus.at(proposal_prefix).set(BOND_RETURNED);
+                                setSponsorDepositStatus(_ipfs_hash, proposal_prefix, BOND_RETURNED);
                                 SponsorBondReturned(_sponsor_address,
                                         _sponsor_deposit_amount + " " + flag + " returned to sponsor address.");
 
@@ -1409,9 +1751,9 @@ public class CPSCore implements CPSCoreInterface {
                             }
 
                         } else if (milestoneStatus == MILESTONE_REPORT_NOT_COMPLETED) {
-                            int completionPeriod = MilestoneDb.completionPeriod.at(milestonePrefix).getOrDefault(0);
+                            int completionPeriod = (int) _milestone_details.get(COMPLETION_PERIOD);
                             int proposalPeriod = ProposalDataDb.proposalPeriod.at(proposal_prefix).getOrDefault(0);
-                            boolean extended = MilestoneDb.extensionFlag.at(milestonePrefix).getOrDefault(false);
+                            boolean extended = (boolean) _milestone_details.get(EXTENSION_FLAG);
 
                             if (getPeriodCount() == (proposalPeriod + completionPeriod)) {
                                 if (extended) {
@@ -1420,18 +1762,20 @@ public class CPSCore implements CPSCoreInterface {
                                     milestonePassed += 1;
                                     String proposalPrefix = proposalPrefix(_ipfs_hash);
                                     int project_duration = (int) _proposal_details.get(PROJECT_DURATION);
-                                    MilestoneDb.extensionFlag.at(milestonePrefix).set(true);
-                                    ProposalDataDb.projectDuration.at(proposalPrefix).set(project_duration + 1);
-                                    MilestoneDb.completionPeriod.at(milestonePrefix).set(completionPeriod + 1);
+                                    MilestoneRecord milestoneRecord = getMilestoneRecord(milestonePrefix);
+                                    milestoneRecord.extensionFlag = true;
+                                    milestoneRecord.completionPeriod = completionPeriod + 1;
+                                    setMilestoneRecord(milestonePrefix, milestoneRecord);
+                                    ProposalDataDb.setProjectDuration(proposalPrefix, project_duration + 1);
                                 }
                             }
-                            updateMilestoneDB(milestonePrefix);
+                            MilestoneDb.resetVotes(milestonePrefix);
 
                         }
 
                     } else {
-                        MilestoneDb.status.at(milestonePrefix).set(MILESTONE_REPORT_REJECTED);
-                        updateMilestoneDB(milestonePrefix);
+                        MilestoneDb.setStatus(milestonePrefix, MILESTONE_REPORT_REJECTED);
+                        MilestoneDb.resetVotes(milestonePrefix);
                     }
                 }
 
@@ -1444,7 +1788,7 @@ public class CPSCore implements CPSCoreInterface {
             }
 
 
-            int projectDuration = ProposalDataDb.projectDuration.at(proposal_prefix).getOrDefault(0);
+            int projectDuration = getProposalRecord(proposal_prefix).projectDuration;
             int proposalPeriod = ProposalDataDb.proposalPeriod.at(proposal_prefix).getOrDefault(0);
             boolean lastProgressReport = proposalPeriod + projectDuration - getPeriodCount() == 0;
             if (milestoneBudget.compareTo(BigInteger.ZERO) > 0) {
@@ -1458,7 +1802,7 @@ public class CPSCore implements CPSCoreInterface {
                 }
             }
         }
-
+        return advanceUpdatePeriodCursor(end);
     }
 
 
@@ -1472,7 +1816,7 @@ public class CPSCore implements CPSCoreInterface {
         String proposalPrefix = proposalPrefix(_ipfs_hash);
         if (_proposal_status.equals(ACTIVE)) {
             int project_duration = (int) _proposal_details.get(PROJECT_DURATION);
-            projectDuration.at(proposalPrefix).set(project_duration + 1);
+            setProjectDuration(proposalPrefix, project_duration + 1);
             updateProposalStatus(_ipfs_hash, PAUSED);
         } else if (_proposal_status.equals(PAUSED)) {
             updateProposalStatus(_ipfs_hash, DISQUALIFIED);
@@ -1481,7 +1825,7 @@ public class CPSCore implements CPSCoreInterface {
             removeContributor(_contributor_address, _ipfs_hash);
             removeSponsor(_sponsor_address, _ipfs_hash);
 
-            sponsorDepositStatus.at(proposalPrefix).set(BOND_CANCELLED);
+            setSponsorDepositStatus(_ipfs_hash, proposalPrefix, BOND_CANCELLED);
 
 //          Transferring the sponsor bond deposit to CPF after the project being disqualified
             disqualifyProject(_sponsor_address, _sponsor_deposit_amount, flag);
@@ -1492,8 +1836,9 @@ public class CPSCore implements CPSCoreInterface {
      Check if all active and paused proposals submits the progress report
      :return:
      ***/
-    private void checkProgressReportSubmission() {
-        for (int i = 0; i < activeProposals.size(); i++) {
+    private void checkProgressReportSubmission(int from, int to) {
+        ArrayDB<String> activeProposals = getActiveProposals();
+        for (int i = from; i < to; i++) {
             String _ipfs_hash = activeProposals.get(i);
             String proposalPrefix = proposalPrefix(_ipfs_hash);
 
@@ -1531,7 +1876,7 @@ public class CPSCore implements CPSCoreInterface {
             removeContributor(_contributor_address, _ipfs_hash);
             removeSponsor(_sponsor_address, _ipfs_hash);
 
-            sponsorDepositStatus.at(proposalPrefix).set(BOND_CANCELLED);
+            setSponsorDepositStatus(_ipfs_hash, proposalPrefix, BOND_CANCELLED);
             BigInteger _sponsor_deposit_amount = (BigInteger) _proposal_details.get(SPONSOR_DEPOSIT_AMOUNT);
 
 //              Transferring the sponsor bond deposit to CPF after the project being disqualified
@@ -1561,15 +1906,18 @@ public class CPSCore implements CPSCoreInterface {
         } else if (votersRatio >= MAJORITY && (_approved_votes.doubleValue() / _total_votes.doubleValue()) >= MAJORITY) {
             String _ipfs_hash = (String) _report_result.get(IPFS_HASH);
             String proposal_prefix = proposalPrefix(_ipfs_hash);
-            String token_flag = token.at(proposal_prefix).getOrDefault("");
+            ProposalRecord proposalRecord = getProposalRecord(proposal_prefix);
+            String token_flag = proposalRecord.token;
 
-            int _period_count = projectDuration.at(proposal_prefix).getOrDefault(0);
-            BigInteger _total_budget = totalBudget.at(proposal_prefix).getOrDefault(BigInteger.ZERO);
+            int _period_count = proposalRecord.projectDuration;
+            BigInteger _total_budget = proposalRecord.totalBudget;
             int _additional_duration = (int) _report_result.get(ADDITIONAL_DURATION);
             BigInteger _additional_budget = (BigInteger) _report_result.get(ADDITIONAL_BUDGET);
 
-            projectDuration.at(proposal_prefix).set(_period_count + _additional_duration);
-            totalBudget.at(proposal_prefix).set(_total_budget.add(_additional_budget));
+            proposalRecord.projectDuration = _period_count + _additional_duration;
+            proposalRecord.totalBudget = _total_budget.add(_additional_budget);
+            setProposalRecord(proposal_prefix, proposalRecord);
+            new ProjectAmounts().adjust(_ipfs_hash, token_flag, _additional_budget);
             budgetAdjustmentStatus.at(_prefix).set(APPROVED);
 
 
@@ -1580,45 +1928,53 @@ public class CPSCore implements CPSCoreInterface {
         }
     }
 
-    private void updateProposalsResult() {
-        BigInteger distributionAmount = getRemainingFund().get(bnUSD);
-        List<String> proposals = sortPriorityProposals(); // priority proposal mean?
+    private boolean updateProposalsResult(int maxItems) {
+        PeriodController period = new PeriodController();
+        ArrayDB<String> proposals = period.updatePeriodQueue;
+        int cursor = period.updatePeriodCursor.getOrDefault(0);
+        int end = Math.min(cursor + maxItems, proposals.size());
+        BigInteger distributionAmount = period.distributionAmount.getOrDefault(BigInteger.ZERO);
         PReps pReps = new PReps();
+        PriorityRanking priorityRanking = new PriorityRanking();
+        boolean participationTracked = pReps.isParticipationTracked(getPeriodCount());
 
-        for (String proposal : proposals) {
-            Map<String, Object> proposalDetails = getProposalDetails(proposal);
-            Map<String, Object> proposalVoteDetails = getVoteResult(proposal);
-            Address sponsorAddress = (Address) proposalDetails.get(SPONSOR_ADDRESS);
-            Address contributorAddress = (Address) proposalDetails.get(CONTRIBUTOR_ADDRESS);
-            BigInteger totalBudget = (BigInteger) proposalDetails.get(TOTAL_BUDGET);
-            int projectDuration = (int) proposalDetails.get(MILESTONE_COUNT);
-            BigInteger sponsorDepositAmount = (BigInteger) proposalDetails.get(SPONSOR_DEPOSIT_AMOUNT);
-            int approvedVoters = (int) proposalVoteDetails.get(APPROVE_VOTERS);
-            BigInteger approvedVotes = (BigInteger) proposalVoteDetails.get(APPROVED_VOTES);
-            BigInteger totalVotes = (BigInteger) proposalVoteDetails.get(TOTAL_VOTES);
-            int totalVoters = (int) proposalVoteDetails.get(TOTAL_VOTERS);
-            String flag = (String) proposalDetails.get(TOKEN);
-            String updatedStatus;
+        for (int proposalIndex = cursor; proposalIndex < end; proposalIndex++) {
+            String proposal = proposals.get(proposalIndex);
             String proposalPrefix = proposalPrefix(proposal);
+            ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+            Address sponsorAddress = proposalRecord.sponsorAddress;
+            Address contributorAddress = proposalRecord.contributorAddress;
+            BigInteger totalBudget = proposalRecord.totalBudget;
+            int projectDuration = proposalRecord.milestoneCount;
+            BigInteger sponsorDepositAmount = ProposalDataDb.sponsorDepositAmount.at(proposalPrefix).getOrDefault(BigInteger.ZERO);
+            String flag = proposalRecord.token;
+            String updatedStatus;
 
-            checkInactivePreps(ProposalDataDb.votersList.at(proposalPrefix));
+            String proposalVotes = ProposalDataDb.votePrefix(proposalPrefix);
+            BigInteger totalVotes = ProposalDataDb.totalVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO);
+            int totalVoters = ProposalDataDb.totalVoters.at(proposalVotes).getOrDefault(0);
+            Boolean majorityApproved = ProposalDataDb.majorityApproved.at(proposalVotes).get();
+            if (majorityApproved == null) {
+                // votes cast before the verdict was kept with them
+                majorityApproved = isMajorityApproved(ProposalDataDb.approveVoters.at(proposalVotes).size(), totalVoters,
+                        ProposalDataDb.approvedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO), totalVotes);
+            }
 
-            double voters_ratio = 0;
-            if (totalVoters != 0) {
-                voters_ratio = (double) approvedVoters / totalVoters;
+            if (!participationTracked) {
+                checkInactivePreps(ProposalDataDb.votersList.at(proposalVotes));
             }
+
             if (totalVoters == 0 || totalVotes.equals(BigInteger.ZERO) || pReps.validPreps.size() < MINIMUM_PREPS) {
                 updateProposalStatus(proposal, REJECTED);
                 updatedStatus = REJECTED;
-            } else if ((voters_ratio) >= MAJORITY &&
-                    (approvedVotes.doubleValue() / totalVotes.doubleValue()) >= MAJORITY) {
+            } else if (majorityApproved) {
                 if (totalBudget.multiply(BigInteger.valueOf(102)).divide(BigInteger.valueOf(100)). // total budget + 2% of sponsor
                         compareTo(distributionAmount) < 0) {
                     updateProposalStatus(proposal, ACTIVE);
                     updatedStatus = ACTIVE;
                     sponsors.add(sponsorAddress);
                     sponsorProjects.at(sponsorAddress).add(proposal);
-                    ProposalDataDb.sponsorDepositStatus.at(proposalPrefix).set(BOND_APPROVED);
+                    setSponsorDepositStatus(proposal, proposalPrefix, BOND_APPROVED);
                     proposalPeriod.at(proposalPrefix).set(getPeriodCount());
                     callScore(getCpfTreasuryScore(), "transferProposalFundToCpsTreasury",
                             proposal, projectDuration, sponsorAddress, contributorAddress, flag, totalBudget);
@@ -1626,34 +1982,19 @@ public class CPSCore implements CPSCoreInterface {
 
                 } else {
                     updatedStatus = PENDING;
-                    ProposalDataDb.totalVoters.at(proposalPrefix).set(0);
-                    ProposalDataDb.totalVotes.at(proposalPrefix).set(BigInteger.ZERO);
-                    ProposalDataDb.approvedVotes.at(proposalPrefix).set(BigInteger.ZERO);
-                    ProposalDataDb.rejectedVotes.at(proposalPrefix).set(BigInteger.ZERO);
-
-                    ArrayDBUtils.clearArrayDb(ProposalDataDb.rejectVoters.at(proposalPrefix));
-                    ArrayDBUtils.clearArrayDb(ProposalDataDb.approveVoters.at(proposalPrefix));
-                    ArrayDBUtils.clearArrayDb(ProposalDataDb.votersList.at(proposalPrefix));
-                    ArrayDBUtils.clearArrayDb(ProposalDataDb.votersReasons.at(proposalPrefix));
-
-                    for (int i = 0; i < pReps.validPreps.size(); i++) {
-                        Address prep = pReps.validPreps.get(i);
-                        BranchDB<Address, DictDB<String, Integer>> prepVoteChange = ProposalDataDb.votersListIndex.at(proposalPrefix);
-                        prepVoteChange.at(prep).set(VOTE, 0);
-                        prepVoteChange.at(prep).set(INDEX, 0);
-                        prepVoteChange.at(prep).set(CHANGE_VOTE, 0);
-                    }
-
+                    ProposalDataDb.resetVotes(proposalPrefix);
                 }
             } else {
                 updateProposalStatus(proposal, REJECTED);
                 updatedStatus = REJECTED;
             }
 
-            proposalRank.set(proposal, null);
+            if (updatedStatus.equals(PENDING)) {
+                priorityRanking.carry(proposal);
+            }
             if (updatedStatus.equals(REJECTED)) {
                 removeContributor(contributorAddress, proposal);
-                sponsorDepositStatus.at(proposalPrefix).set(BOND_RETURNED);
+                setSponsorDepositStatus(proposal, proposalPrefix, BOND_RETURNED);
                 BigInteger halfSubmissionFee = BigInteger.valueOf(APPLICATION_FEE / 2).multiply(EXA);
                 Context.transfer(contributorAddress, halfSubmissionFee);
                 proposalFees.set(proposalFees.get().subtract(halfSubmissionFee));
@@ -1663,47 +2004,107 @@ public class CPSCore implements CPSCoreInterface {
                 SponsorBondReturned(sponsorAddress,
                         sponsorDepositAmount + " returned to sponsor address.");
             }
-            if (proposals.size() > 0) {
-                checkInactivePreps(priorityVotedPreps);
-            }
         }
+        period.distributionAmount.set(distributionAmount);
+
+        int proposalCount = proposals.size();
+        boolean completed = advanceUpdatePeriodCursor(end);
+        if (completed && proposalCount > 0 && !participationTracked) {
+            checkInactivePreps(priorityVotedPreps);
+        }
+        return completed;
     }
 
     private void updateProposalStatus(String proposalHash, String propStatus) {
         Status status = new Status();
         String proposalPrefix = proposalPrefix(proposalHash);
         String currentStatus = ProposalDataDb.status.at(proposalPrefix).get();
+        upgradeProposalRecord(proposalPrefix);
         ProposalDataDb.timestamp.at(proposalPrefix).set(BigInteger.valueOf(Context.getBlockTimestamp()));
         ProposalDataDb.status.at(proposalPrefix).set(propStatus);
 
-        ArrayDB<String> proposalStatus = status.proposalStatus.get(currentStatus);
-        ArrayDBUtils.removeArrayItem(proposalStatus, proposalHash);
-        status.proposalStatus.get(propStatus).add(proposalHash);
+        status.moveProposal(proposalHash, currentStatus, propStatus);
+
+        ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+        new ProjectAmounts().move(proposalHash, propStatus, proposalRecord.token, proposalRecord.totalBudget);
+        new SponsorIndex().move(proposalHash, proposalRecord.sponsorAddress, propStatus);
+
+        PriorityRanking priorityRanking = new PriorityRanking();
+        if (PENDING.equals(currentStatus)) {
+            priorityRanking.remove(proposalHash);
+        }
+        if (propStatus.equals(PENDING)) {
+            priorityRanking.add(proposalHash);
+        }
+    }
+
+    // the share of approving voters and the share of approving stake both need the majority
+    private boolean isMajorityApproved(int approveVoters, int totalVoters, BigInteger approvedVotes,
+                                       BigInteger totalVotes) {
+        if (totalVoters == 0 || totalVotes.signum() == 0) {
+            return false;
+        }
+        return (double) approveVoters / totalVoters >= MAJORITY &&
+                approvedVotes.doubleValue() / totalVotes.doubleValue() >= MAJORITY;
+    }
+
+    // keeps the approved bond sums of the sponsor in step with the deposit status
+    private void setSponsorDepositStatus(String proposalHash, String proposalPrefix, String depositStatus) {
+        boolean wasApproved = BOND_APPROVED.equals(sponsorDepositStatus.at(proposalPrefix).get());
+        sponsorDepositStatus.at(proposalPrefix).set(depositStatus);
+        boolean isApproved = BOND_APPROVED.equals(depositStatus);
+        if (wasApproved != isApproved) {
+            ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+            BigInteger bond = sponsorDepositAmount.at(proposalPrefix).getOrDefault(BigInteger.ZERO);
+            new SponsorIndex().addBond(proposalHash, proposalRecord.sponsorAddress, proposalRecord.token,
+                    isApproved ? bond : bond.negate());
+        }
     }
 
     private void updateProgressReportStatus(String progressHash, String progressStatus) {
         String progressPrefix = progressReportPrefix(progressHash);
         String currentStatus = ProgressReportDataDb.status.at(progressPrefix).get();
+        ProgressReportDataDb.upgradeProgressReportRecord(progressPrefix);
         ProgressReportDataDb.timestamp.at(progressPrefix).set(BigInteger.valueOf(Context.getBlockTimestamp()));
         ProgressReportDataDb.status.at(progressPrefix).set(progressStatus);
 
         Status status = new Status();
-        ArrayDB<String> progressReportStatus = status.progressReportStatus.get(currentStatus);
-        ArrayDBUtils.removeArrayItem(progressReportStatus, progressHash);
-        status.progressReportStatus.get(progressStatus).add(progressHash);
+        status.moveProgressReport(progressHash, currentStatus, progressStatus);
     }
 
 
+    // one vote for each pending proposal, each milestone of the waiting progress reports and the priority ranking
+    private int countRequiredVotes() {
+        Status status = new Status();
+        int required = status.pending.size();
+        if (required > 0) {
+            required += 1;
+        }
+        int size = status.waitingProgressReports.size();
+        for (int i = 0; i < size; i++) {
+            String reportPrefix = progressReportPrefix(status.waitingProgressReports.get(i));
+            required += milestoneSubmitted.at(reportPrefix).size();
+        }
+        return required;
+    }
+
     private void checkInactivePreps(ArrayDB<Address> prepList) {
         PReps pReps = new PReps();
         for (int i = 0; i < pReps.validPreps.size(); i++) {
             Address prep = pReps.validPreps.get(i);
-            if (!containsInArrayDb(prep, prepList) && !containsInArrayDb(prep, pReps.inactivePreps)) {
-                pReps.inactivePreps.add(prep);
+            if (!pReps.hasRole(prep, ROLE_INACTIVE) && !containsInArrayDb(prep, prepList)) {
+                pReps.addRole(prep, ROLE_INACTIVE);
             }
         }
     }
 
+    // every vote records the 1 based position of the voter in the voter list under INDEX
+    private boolean hasVoted(ArrayDB<Address> voters, BranchDB<Address, DictDB<String, Integer>> indices,
+                             Address voter) {
+        int index = indices.at(voter).getOrDefault(INDEX, 0);
+        return index > 0 && index <= voters.size() && voters.get(index - 1).equals(voter);
+    }
+
     private Map<String, Object> getProposalDetails(String proposal) {
         if (proposalKeyExists(proposal)) {
             return getDataFromProposalDB(proposalPrefix(proposal));
@@ -1726,44 +2127,36 @@ public class CPSCore implements CPSCoreInterface {
             return Map.of(MESSAGE, "Not a valid _status.");
         }
         List<Object> proposalsList = new ArrayList<>();
-        List<String> proposalKeys = getProposalsKeysByStatus(status);
-
-        if (startIndex < 0) {
-            startIndex = 0;
-        }
-        int endIndex = startIndex + 10;
-
-        int count = proposalKeys.size();
-        if (endIndex > count) {
-            endIndex = count;
-        }
+        ArrayDB<String> proposalStatus = new Status().proposalStatus.get(status);
+        int count = proposalStatus.size();
 
-        for (int i = startIndex; i < endIndex; i++) {
-            String proposalKey = proposalKeys.get(i);
+        for (String proposalKey : getPage(startIndex, 10, proposalStatus)) {
             Map<String, Object> proposalDetails = new HashMap<>();
             if (proposalKeyExists(proposalKey)) {
                 String proposalPrefix = proposalPrefix(proposalKey);
-                proposalDetails.put(IPFS_HASH, ProposalDataDb.ipfsHash.at(proposalPrefix).getOrDefault(""));
-                proposalDetails.put(PROJECT_TITLE, ProposalDataDb.projectTitle.at(proposalPrefix).getOrDefault(""));
-                proposalDetails.put(TOTAL_BUDGET, totalBudget.at(proposalPrefix).getOrDefault(BigInteger.ZERO));
-                proposalDetails.put(TOKEN, token.at(proposalPrefix).getOrDefault(""));
+                String proposalVotes = ProposalDataDb.votePrefix(proposalPrefix);
+                ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+                proposalDetails.put(IPFS_HASH, proposalRecord.ipfsHash);
+                proposalDetails.put(PROJECT_TITLE, proposalRecord.projectTitle);
+                proposalDetails.put(TOTAL_BUDGET, proposalRecord.totalBudget);
+                proposalDetails.put(TOKEN, proposalRecord.token);
                 proposalDetails.put(PERCENTAGE_COMPLETED, percentageCompleted.at(proposalPrefix).getOrDefault(0));
 
-                proposalDetails.put(TOTAL_VOTES, ProposalDataDb.totalVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO));
-                proposalDetails.put(APPROVED_VOTES, ProposalDataDb.approvedVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO));
-                proposalDetails.put(REJECTED_VOTES, ProposalDataDb.rejectedVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO));
-                proposalDetails.put(ABSTAINED_VOTES, ProposalDataDb.abstainedVotes.at(proposalPrefix).getOrDefault(BigInteger.ZERO));
+                proposalDetails.put(TOTAL_VOTES, ProposalDataDb.totalVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO));
+                proposalDetails.put(APPROVED_VOTES, ProposalDataDb.approvedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO));
+                proposalDetails.put(REJECTED_VOTES, ProposalDataDb.rejectedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO));
+                proposalDetails.put(ABSTAINED_VOTES, ProposalDataDb.abstainedVotes.at(proposalVotes).getOrDefault(BigInteger.ZERO));
 
-                proposalDetails.put(APPROVE_VOTERS, ProposalDataDb.approveVoters.at(proposalPrefix).size());
-                proposalDetails.put(REJECT_VOTERS, ProposalDataDb.rejectVoters.at(proposalPrefix).size());
-                proposalDetails.put(ABSTAIN_VOTERS, abstainVoters.at(proposalPrefix).size());
-                proposalDetails.put(TOTAL_VOTERS, ProposalDataDb.totalVoters.at(proposalPrefix).getOrDefault(0));
+                proposalDetails.put(APPROVE_VOTERS, ProposalDataDb.approveVoters.at(proposalVotes).size());
+                proposalDetails.put(REJECT_VOTERS, ProposalDataDb.rejectVoters.at(proposalVotes).size());
+                proposalDetails.put(ABSTAIN_VOTERS, abstainVoters.at(proposalVotes).size());
+                proposalDetails.put(TOTAL_VOTERS, ProposalDataDb.totalVoters.at(proposalVotes).getOrDefault(0));
 
                 String propStatus = ProposalDataDb.status.at(proposalPrefix).getOrDefault("");
                 proposalDetails.put(STATUS, propStatus);
 
                 if (status.equals(SPONSOR_PENDING)) {
-                    Address wallet = contributorAddress.at(proposalPrefix).get();
+                    Address wallet = proposalRecord.contributorAddress;
                     if (wallet.equals(walletAddress)) {
                         proposalsList.add(proposalDetails);
                     }
@@ -1780,7 +2173,13 @@ public class CPSCore implements CPSCoreInterface {
 
     @Override
     @External(readonly = true)
-    public Map<String, Object> getProposalDetailsByHash(String ipfsKey) {
+    public Map<String, Object> getProposalDetailsByHash(String ipfsKey, @Optional String[] fields) {
+        if (fields != null && fields.length > 0) {
+            if (!proposalKeyExists(ipfsKey)) {
+                return Map.of();
+            }
+            return getDataFromProposalDB(proposalPrefix(ipfsKey), fields);
+        }
         Map<String, Object> proposalDetails = new HashMap<>();
         String prefix = proposalPrefix(ipfsKey);
         proposalDetails.putAll(getProposalDetails(ipfsKey));
@@ -1788,6 +2187,28 @@ public class CPSCore implements CPSCoreInterface {
         return proposalDetails;
     }
 
+    @Override
+    @External(readonly = true)
+    public List<Map<String, Object>> getProposalDetailsByHashes(String[] ipfsKeys, @Optional String[] fields) {
+        validateBatchSize(ipfsKeys.length);
+        // no storage is shared between proposals, only a key given more than once is read once
+        List<Map<String, Object>> proposals = new ArrayList<>();
+        Map<String, Map<String, Object>> read = new HashMap<>();
+        for (String ipfsKey : ipfsKeys) {
+            Map<String, Object> proposal = read.get(ipfsKey);
+            if (proposal == null) {
+                proposal = getProposalDetailsByHash(ipfsKey, fields);
+                read.put(ipfsKey, proposal);
+            }
+            proposals.add(proposal);
+        }
+        return proposals;
+    }
+
+    private void validateBatchSize(int size) {
+        Context.require(size <= MAX_BATCH_ITEMS, TAG + ": At most " + MAX_BATCH_ITEMS + " items can be read at once.");
+    }
+
 
     private Map<String, Object> getProgressReportDetails(String progressKey) {
         return getDataFromProgressReportDB(progressReportPrefix(progressKey));
@@ -1850,10 +2271,22 @@ public class CPSCore implements CPSCoreInterface {
      ***/
     @Override
     @External(readonly = true)
-    public Map<String, Object> getProgressReportsByHash(String reportKey) {
+    public Map<String, Object> getProgressReportsByHash(String reportKey, @Optional String[] fields) {
+        return getProgressReportsByHash(reportKey, fields, new HashMap<>());
+    }
+
+    private Map<String, Object> getProgressReportsByHash(String reportKey, String[] fields,
+                                                         Map<String, ProposalRecord> proposalRecords) {
+        if (fields != null && fields.length > 0) {
+            if (!progressKeyExists(reportKey)) {
+                return Map.of();
+            }
+            return getDataFromProgressReportDB(progressReportPrefix(reportKey), fields, proposalRecords);
+        }
         if (progressKeyExists(reportKey)) {
             Map<String, Object> finalDetail = new HashMap<>();
-            Map<String, Object> progressReportDetails = getProgressReportDetails(reportKey);
+            Map<String, Object> progressReportDetails = getDataFromProgressReportDB(progressReportPrefix(reportKey),
+                    proposalRecords);
             finalDetail.putAll(progressReportDetails);
             boolean hasMilestone = false;
             int milestoneSubmittedSize = (int) progressReportDetails.get(MILESTONE_SUBMITTED_COUNT);
@@ -1873,12 +2306,25 @@ public class CPSCore implements CPSCoreInterface {
         return Map.of();
     }
 
+    @Override
+    @External(readonly = true)
+    public List<Map<String, Object>> getProgressReportsByHashes(String[] reportKeys, @Optional String[] fields) {
+        validateBatchSize(reportKeys.length);
+        List<Map<String, Object>> progressReports = new ArrayList<>();
+        // reports of the same proposal read its record once
+        Map<String, ProposalRecord> proposalRecords = new HashMap<>();
+        for (String reportKey : reportKeys) {
+            progressReports.add(getProgressReportsByHash(reportKey, fields, proposalRecords));
+        }
+        return progressReports;
+    }
+
     private Map<String, Object> getMilestoneReport(String reportKey, String ipfsHash) {
         Map<String, Object> milestoneReport = new HashMap<>();
         ArrayDB<Integer> mileSubmitted = milestoneSubmitted.at(progressReportPrefix(reportKey));
         for (int i = 0; i < mileSubmitted.size(); i++) {
             int count = mileSubmitted.get(i);
-            milestoneReport.put("milestone_" + count, getMilestonesReport(ipfsHash, count));
+            milestoneReport.put("milestone_" + count, getMilestonesReport(ipfsHash, count, null));
         }
         return milestoneReport;
     }
@@ -1894,7 +2340,7 @@ public class CPSCore implements CPSCoreInterface {
 
         int reportCount = reportKeys.size();
         for (int i = 0; i < reportCount; i++) {
-            Map<String, Object> progressReportDetails = this.getProgressReportsByHash(reportKeys.get(i));
+            Map<String, Object> progressReportDetails = this.getProgressReportsByHash(reportKeys.get(i), null);
             progressReportList.add(progressReportDetails);
         }
         return Map.of(DATA, progressReportList, COUNT, reportCount);
@@ -1913,36 +2359,58 @@ public class CPSCore implements CPSCoreInterface {
         }
         List<String> proposalKeys = new ArrayList<>();
         List<Object> sponsorRequests = new ArrayList<>();
-        String prefix;
+        Status _status = new Status();
+        int count = 0;
+
+        SponsorIndex sponsorIndex = new SponsorIndex();
+        if (sponsorIndex.ready.getOrDefault(false)) {
+            BigInteger sponsorAmountICX = BigInteger.ZERO;
+            BigInteger sponsorAmountBnusd = BigInteger.ZERO;
+            if (status.equals(APPROVED)) {
+                ArrayDB<String> sponsoredProjects = this.sponsorProjects.at(sponsorAddress);
+                ArrayDB<String> pendingKeys = sponsorIndex.getProposals(sponsorAddress, PENDING);
+                proposalKeys.addAll(getPage(startIndex, endIndex - startIndex, sponsoredProjects, pendingKeys));
+                count = totalSize(sponsoredProjects, pendingKeys);
+                // only the sponsored projects hold approved bonds
+                sponsorAmountICX = sponsorIndex.getApprovedBond(sponsorAddress, ICX);
+                sponsorAmountBnusd = sponsorIndex.getApprovedBond(sponsorAddress, bnUSD);
+            } else {
+                ArrayDB<String> statusKeys = sponsorIndex.getProposals(sponsorAddress, status);
+                proposalKeys.addAll(getPage(startIndex, endIndex - startIndex, statusKeys));
+                count = statusKeys.size();
+            }
+            for (String proposalKey : proposalKeys) {
+                sponsorRequests.add(getProposalDetails(proposalKey));
+            }
+            return Map.of(DATA, sponsorRequests, COUNT, count,
+                    SPONSOR_DEPOSIT_AMOUNT, Map.of(ICX, sponsorAmountICX, bnUSD, sponsorAmountBnusd));
+        }
 
+        // only the keys of the requested page are kept, the rest are counted
+        ArrayDB<String> filteredKeys;
         if (status.equals(APPROVED)) {
-            proposalKeys = arrayDBtoList(this.sponsorProjects.at(sponsorAddress));
-            List<String> pendingProposals = getProposalsKeysByStatus(PENDING);
-            for (String ipfsKey : pendingProposals) {
-                prefix = proposalPrefix(ipfsKey);
-                if (ProposalDataDb.sponsorAddress.at(prefix).get().equals(sponsorAddress)) {
-                    proposalKeys.add(ipfsKey);
-                }
-            }
+            ArrayDB<String> sponsoredProjects = this.sponsorProjects.at(sponsorAddress);
+            proposalKeys.addAll(getPage(startIndex, endIndex - startIndex, sponsoredProjects));
+            count = sponsoredProjects.size();
+            filteredKeys = _status.pending;
         } else {
-            List<String> proposalKeysList = getProposalsKeysByStatus(status);
-            for (String ipfsKey : proposalKeysList) {
-                prefix = proposalPrefix(ipfsKey);
-                if (ProposalDataDb.sponsorAddress.at(prefix).get().equals(sponsorAddress)) {
+            filteredKeys = _status.proposalStatus.get(status);
+        }
+        int size = filteredKeys.size();
+        for (int i = 0; i < size; i++) {
+            String ipfsKey = filteredKeys.get(i);
+            if (getProposalRecord(proposalPrefix(ipfsKey)).sponsorAddress.equals(sponsorAddress)) {
+                if (count >= startIndex && count < endIndex) {
                     proposalKeys.add(ipfsKey);
                 }
+                count++;
             }
         }
-        int count = proposalKeys.size();
-        if (endIndex > count) {
-            endIndex = count;
-        }
 
         BigInteger sponsorAmountICX = BigInteger.ZERO;
         BigInteger sponsorAmountBnusd = BigInteger.ZERO;
 
-        for (int i = startIndex; i < endIndex; i++) {
-            String proposalKey = proposalKeys.get(i);
+        for (String proposalKey : proposalKeys) {
             String proposalPrefix = proposalPrefix(proposalKey);
             String sponsorDepositStatus = ProposalDataDb.sponsorDepositStatus.at(proposalPrefix).getOrDefault("");
             Map<String, Object> proposalDetails = getProposalDetails(proposalKey);
@@ -1958,7 +2426,7 @@ public class CPSCore implements CPSCoreInterface {
             }
         }
 
-        return Map.of(DATA, sponsorRequests, COUNT, proposalKeys.size(),
+        return Map.of(DATA, sponsorRequests, COUNT, count,
                 SPONSOR_DEPOSIT_AMOUNT, Map.of(ICX, sponsorAmountICX, bnUSD, sponsorAmountBnusd));
     }
 
@@ -1975,12 +2443,23 @@ public class CPSCore implements CPSCoreInterface {
     public List<Map<String, Object>> getRemainingProject(String projectType, Address walletAddress) {
         List<Map<String, Object>> _remaining_proposals = new ArrayList<>();
         List<Map<String, Object>> _remaining_progress_report = new ArrayList<>();
+        PeriodController period = new PeriodController();
+        int periodCount = getPeriodCount();
+        if (List.of(PROPOSAL, PROGRESS_REPORTS).contains(projectType) &&
+                period.periodName.get().equals(VOTING_PERIOD) && new PReps().isParticipationTracked(periodCount)) {
+            for (String key : new RemainingVotes().getRemaining(periodCount, walletAddress, projectType)) {
+                _remaining_proposals.add(projectType.equals(PROPOSAL) ? getProposalDetails(key) :
+                        getProgressReportDetails(key));
+            }
+            return _remaining_proposals;
+        }
+
         if (projectType.equals(PROPOSAL)) {
             List<String> _proposal_keys = getProposalsKeysByStatus(PENDING);
             for (String _ipfs_key : _proposal_keys) {
                 String prefix = proposalPrefix(_ipfs_key);
 
-                if (!containsInArrayDb(walletAddress, ProposalDataDb.votersList.at(prefix))) {
+                if (!containsInArrayDb(walletAddress, ProposalDataDb.votersList.at(ProposalDataDb.votePrefix(prefix)))) {
                     Map<String, Object> _proposal_details = getProposalDetails(_ipfs_key);
                     _remaining_proposals.add(_proposal_details);
                 }
@@ -1994,17 +2473,18 @@ public class CPSCore implements CPSCoreInterface {
                 String reportHash = status.waitingProgressReports.get(i);
                 String prefix = progressReportPrefix(reportHash);
 
-                String ipfsHash = ProgressReportDataDb.ipfsHash.at(prefix).get();
+                String ipfsHash = getProgressReportRecord(prefix).ipfsHash;
                 ArrayDB<Integer> milestoneSubmittedOf = milestoneSubmitted.at(prefix);
                 for (int j = 0; j < milestoneSubmittedOf.size(); j++) {
                     int milestoneID = milestoneSubmittedOf.get(j);
                     String milestonePrefix = mileStonePrefix(ipfsHash, milestoneID);
 
-                    ArrayDB<Address> voterList = MilestoneDb.votersList.at(milestonePrefix);
+                    ArrayDB<Address> voterList = MilestoneDb.votersList.at(MilestoneDb.votePrefix(milestonePrefix));
                     if (!containsInArrayDb(walletAddress, voterList)) {
                         Map<String, Object> progressReportDetails = new HashMap<>();
                         progressReportDetails.putAll(getProgressReportDetails(reportHash));
                         _remaining_progress_report.add(progressReportDetails);
+                        break;
                     }
                 }
             }
@@ -2024,12 +2504,30 @@ public class CPSCore implements CPSCoreInterface {
     @Override
     @External(readonly = true)
     public Map<String, Object> getVoteResult(String ipfsKey) {
+        return getVoteResult(ipfsKey, new HashMap<>());
+    }
+
+    @Override
+    @External(readonly = true)
+    public List<Map<String, Object>> getVoteResults(String[] ipfsKeys) {
+        validateBatchSize(ipfsKeys.length);
+        // the same P-Reps vote on most proposals, their names are read once per call
+        Map<Address, String> prepNames = new HashMap<>();
+        List<Map<String, Object>> voteResults = new ArrayList<>();
+        for (String ipfsKey : ipfsKeys) {
+            voteResults.add(getVoteResult(ipfsKey, prepNames));
+        }
+        return voteResults;
+    }
+
+    private Map<String, Object> getVoteResult(String ipfsKey, Map<Address, String> prepNames) {
         String prefix = proposalPrefix(ipfsKey);
+        String votes = ProposalDataDb.votePrefix(prefix);
 
-        ArrayDB<Address> _voters_list = ProposalDataDb.votersList.at(prefix);
-        ArrayDB<Address> approve_voters = ProposalDataDb.approveVoters.at(prefix);
-        ArrayDB<Address> reject_voters = ProposalDataDb.rejectVoters.at(prefix);
-        ArrayDB<Address> abstain_voters = ProposalDataDb.abstainVoters.at(prefix);
+        ArrayDB<Address> _voters_list = ProposalDataDb.votersList.at(votes);
+        ArrayDB<Address> approve_voters = ProposalDataDb.approveVoters.at(votes);
+        ArrayDB<Address> reject_voters = ProposalDataDb.rejectVoters.at(votes);
+        ArrayDB<Address> abstain_voters = ProposalDataDb.abstainVoters.at(votes);
         List<Map<String, Object>> _vote_status = new ArrayList<>();
         String vote;
         for (int i = 0; i < _voters_list.size(); i++) {
@@ -2042,14 +2540,19 @@ public class CPSCore implements CPSCoreInterface {
                 vote = ABSTAIN;
             }
 
-            String reason = ProposalDataDb.votersReasons.at(prefix).get(i);
+            String reason = ProposalDataDb.votersReasons.at(votes).get(i);
             if (reason == null) {
                 reason = "";
             }
 
 
+            String prepName = prepNames.get(voter);
+            if (prepName == null) {
+                prepName = getPrepName(voter);
+                prepNames.put(voter, prepName);
+            }
             Map<String, Object> _voters = Map.of(ADDRESS, voter,
-                    PREP_NAME, getPrepName(voter),
+                    PREP_NAME, prepName,
                     VOTE_REASON, reason,
                     VOTE, vote);
             _vote_status.add(_voters);
@@ -2058,25 +2561,26 @@ public class CPSCore implements CPSCoreInterface {
         return Map.of(DATA, _vote_status, APPROVE_VOTERS, approve_voters.size(),
                 REJECT_VOTERS, reject_voters.size(),
                 ABSTAIN_VOTERS, abstain_voters.size(),
-                TOTAL_VOTERS, ProposalDataDb.totalVoters.at(prefix).getOrDefault(0),
-                APPROVED_VOTES, ProposalDataDb.approvedVotes.at(prefix).getOrDefault(BigInteger.ZERO),
-                REJECTED_VOTES, ProposalDataDb.rejectedVotes.at(prefix).getOrDefault(BigInteger.ZERO),
-                ABSTAINED_VOTES, ProposalDataDb.abstainedVotes.at(prefix).getOrDefault(BigInteger.ZERO),
-                TOTAL_VOTES, ProposalDataDb.totalVotes.at(prefix).getOrDefault(BigInteger.ZERO));
+                TOTAL_VOTERS, ProposalDataDb.totalVoters.at(votes).getOrDefault(0),
+                APPROVED_VOTES, ProposalDataDb.approvedVotes.at(votes).getOrDefault(BigInteger.ZERO),
+                REJECTED_VOTES, ProposalDataDb.rejectedVotes.at(votes).getOrDefault(BigInteger.ZERO),
+                ABSTAINED_VOTES, ProposalDataDb.abstainedVotes.at(votes).getOrDefault(BigInteger.ZERO),
+                TOTAL_VOTES, ProposalDataDb.totalVotes.at(votes).getOrDefault(BigInteger.ZERO));
     }
 
     // a different method for get milestone report
     @External(readonly = true)
     public Map<String, Object> getMilestoneVoteResult(String reportKey, int milestoneId) {
         String prefix = progressReportPrefix(reportKey);
-        String ipfshHash = ProgressReportDataDb.ipfsHash.at(prefix).get();
+        String ipfshHash = getProgressReportRecord(prefix).ipfsHash;
         List<Integer> milestoneSubmitted = getMilestoneCountOfProgressReport(reportKey);
         if (milestoneSubmitted.contains(milestoneId)) {
 
             String milestonePrefix = mileStonePrefix(ipfshHash, milestoneId);
-            ArrayDB<Address> _voters_list = MilestoneDb.votersList.at(milestonePrefix);
-            ArrayDB<Address> _approved_voters_list = MilestoneDb.approveVoters.at(milestonePrefix);
-            ArrayDB<Address> _rejected_voters_list = MilestoneDb.rejectVoters.at(milestonePrefix);
+            String milestoneVotes = MilestoneDb.votePrefix(milestonePrefix);
+            ArrayDB<Address> _voters_list = MilestoneDb.votersList.at(milestoneVotes);
+            ArrayDB<Address> _approved_voters_list = MilestoneDb.approveVoters.at(milestoneVotes);
+            ArrayDB<Address> _rejected_voters_list = MilestoneDb.rejectVoters.at(milestoneVotes);
 
             List<Map<String, Object>> _vote_status = new ArrayList<>();
             String vote;
@@ -2104,8 +2608,8 @@ public class CPSCore implements CPSCoreInterface {
             return Map.of(DATA, _vote_status, APPROVE_VOTERS, _approved_voters_list.size(),
                     REJECT_VOTERS, _rejected_voters_list.size(),
                     TOTAL_VOTERS, ProgressReportDataDb.totalVoters.at(prefix).getOrDefault(0),
-                    APPROVED_VOTES, MilestoneDb.approvedVotes.at(milestonePrefix).getOrDefault(BigInteger.ZERO),
-                    REJECTED_VOTES, MilestoneDb.rejectedVotes.at(milestonePrefix).getOrDefault(BigInteger.ZERO),
+                    APPROVED_VOTES, MilestoneDb.approvedVotes.at(milestoneVotes).getOrDefault(BigInteger.ZERO),
+                    REJECTED_VOTES, MilestoneDb.rejectedVotes.at(milestoneVotes).getOrDefault(BigInteger.ZERO),
                     TOTAL_VOTES, ProgressReportDataDb.totalVotes.at(prefix).getOrDefault(BigInteger.ZERO));
         }
         return Map.of();
@@ -2115,7 +2619,7 @@ public class CPSCore implements CPSCoreInterface {
     @External(readonly = true)
     public Map<String, Object> getProgressReportVoters(String reportKey) {
         String prefix = progressReportPrefix(reportKey);
-        String ipfsHash = ProgressReportDataDb.ipfsHash.at(prefix).get();
+        String ipfsHash = getProgressReportRecord(prefix).ipfsHash;
         int milestoneCount = getMilestoneCount(ipfsHash);
         List<Map<String, Object>> voteStatus = new ArrayList<>();
         String vote;
@@ -2126,10 +2630,11 @@ public class CPSCore implements CPSCoreInterface {
             for (int i = 0; i < milestoneSubmittedOf.size(); i++) {
                 int milestoneID = milestoneSubmittedOf.get(i);
                 String milestonePrefix = mileStonePrefix(ipfsHash, milestoneID);
+                String milestoneVotes = MilestoneDb.votePrefix(milestonePrefix);
 
-                ArrayDB<Address> voterList = MilestoneDb.votersList.at(milestonePrefix);
-                ArrayDB<Address> approvedVoterList = MilestoneDb.approveVoters.at(milestonePrefix);
-                ArrayDB<Address> rejectedVoterList = MilestoneDb.rejectVoters.at(milestonePrefix);
+                ArrayDB<Address> voterList = MilestoneDb.votersList.at(milestoneVotes);
+                ArrayDB<Address> approvedVoterList = MilestoneDb.approveVoters.at(milestoneVotes);
+                ArrayDB<Address> rejectedVoterList = MilestoneDb.rejectVoters.at(milestoneVotes);
 
                 for (int j = 0; j < voterList.size(); j++) {
                     Address voter = voterList.get(j);
@@ -2193,8 +2698,8 @@ public class CPSCore implements CPSCoreInterface {
     public Map<String, Object> getProgressReportResult(String reportKey) {
 
         String prefix = progressReportPrefix(reportKey);
-        String ipfsHash = ProgressReportDataDb.ipfsHash.at(prefix).get();
-        boolean hasMilestone = isMilestone.at(proposalPrefix(ipfsHash)).getOrDefault(false);
+        String ipfsHash = getProgressReportRecord(prefix).ipfsHash;
+        boolean hasMilestone = getProposalRecord(proposalPrefix(ipfsHash)).isMilestone;
         if (hasMilestone) {
 
             List<Integer> milestoneSubmittedList = getMilestoneCountOfProgressReport(reportKey);
@@ -2215,9 +2720,25 @@ public class CPSCore implements CPSCoreInterface {
     }
 
     @External(readonly = true)
-    public Map<String, Object> getMilestonesReport(String ipfsKey, int milestoneId) {
+    public Map<String, Object> getMilestonesReport(String ipfsKey, int milestoneId, @Optional String[] fields) {
         String milestonePrefix = mileStonePrefix(ipfsKey, milestoneId);
-        return getDataFromMilestoneDB(milestonePrefix);
+        return getDataFromMilestoneDB(milestonePrefix, fields);
+    }
+
+    // ipfsKeys[i] and milestoneIds[i] name one milestone
+    @External(readonly = true)
+    public List<Map<String, Object>> getMilestonesReports(String[] ipfsKeys, int[] milestoneIds,
+                                                          @Optional String[] fields) {
+        Context.require(ipfsKeys.length == milestoneIds.length,
+                TAG + ": Each milestone id needs its proposal key.");
+        validateBatchSize(ipfsKeys.length);
+        List<Map<String, Object>> milestones = new ArrayList<>();
+        // milestones of the same progress report read its vote totals once
+        Map<String, Map<String, Object>> reportTotals = new HashMap<>();
+        for (int i = 0; i < ipfsKeys.length; i++) {
+            milestones.add(getDataFromMilestoneDB(mileStonePrefix(ipfsKeys[i], milestoneIds[i]), fields, reportTotals));
+        }
+        return milestones;
     }
 
     @External(readonly = true)
@@ -2231,7 +2752,7 @@ public class CPSCore implements CPSCoreInterface {
     @External(readonly = true)
     public int getMileststoneStatusOf(String proposalKey, int milestoneId) {
         String milestonePrefix = mileStonePrefix(proposalKey, milestoneId);
-        return MilestoneDb.status.at(milestonePrefix).getOrDefault(0);
+        return getMilestoneRecord(milestonePrefix).status;
     }
 
 
@@ -2305,9 +2826,9 @@ public class CPSCore implements CPSCoreInterface {
 
         } else if (getProposalsKeysByStatus(PENDING).size() == 0 &&
                 status.progressReportStatus.get(WAITING).size() == 0 &&
-                activeProposals.size() + status.paused.size() >= 0) {
+                getActiveProposals().size() + status.paused.size() >= 0) {
             createActiveProposalDb();
-            checkProgressReportSubmission();
+            checkProgressReportSubmission(0, getActiveProposals().size());
             period.periodName.set(APPLICATION_PERIOD);
             PeriodUpdate("Period Updated back to Application Period due not enough " +
                     "Voting Proposals or Progress Reports.");
@@ -2318,22 +2839,24 @@ public class CPSCore implements CPSCoreInterface {
     }
 
     private void createActiveProposalDb() {
-        clearArrayDb(activeProposals);
+        int round = activeProposalsRound.getOrDefault(0) + 1;
+        activeProposalsRound.set(round);
+        ArrayDB<String> proposals = activeProposalRounds.at(round);
         Status status = new Status();
         for (int i = 0; i < status.active.size(); i++) {
-            String proposal = status.active.get(i);
-            if (!ArrayDBUtils.containsInArrayDb(proposal, activeProposals)) {
-                activeProposals.add(proposal);
-            }
+            proposals.add(status.active.get(i));
         }
         for (int i = 0; i < status.paused.size(); i++) {
-            String proposal = status.paused.get(i);
-            if (!ArrayDBUtils.containsInArrayDb(proposal, activeProposals)) {
-                activeProposals.add(proposal);
-            }
+            proposals.add(status.paused.get(i));
         }
     }
 
+    // round 0 is the list from before rounds existed
+    private ArrayDB<String> getActiveProposals() {
+        int round = activeProposalsRound.getOrDefault(0);
+        return round == 0 ? activeProposals : activeProposalRounds.at(round);
+    }
+
     private void payPrepPenalty(Address from, BigInteger _value) {
         checkMaintenance();
         updatePeriod();
@@ -2341,16 +2864,16 @@ public class CPSCore implements CPSCoreInterface {
         PeriodController period = new PeriodController();
         Context.require(period.periodName.get().equals(APPLICATION_PERIOD),
                 TAG + " Penalty can only be paid on Application Period");
-        Context.require(ArrayDBUtils.containsInArrayDb(from, pReps.denylist),
+        Context.require(pReps.hasRole(from, ROLE_DENYLISTED),
                 TAG + " " + from + " not in denylist.");
 
         BigInteger penaltyAmount = getPenaltyAmount(from);
         Context.require(penaltyAmount.equals(_value),
                 "Please pay Penalty amount of" + penaltyAmount + " to register as a P-Rep.");
         SetterGetter setterGetter = new SetterGetter();
-        ArrayDBUtils.removeArrayItem(pReps.denylist, from);
-        pReps.registeredPreps.add(from);
-        pReps.validPreps.add(from);
+        pReps.removeRole(from, ROLE_DENYLISTED);
+        pReps.addRole(from, ROLE_REGISTERED);
+        pReps.addRole(from, ROLE_VALID);
         burn(_value, setterGetter.balancedDollar.get());
         PRepPenalty(from, _value + " bnUSD Penalty Received. P-Rep removed from Denylist.");
 
@@ -2388,11 +2911,10 @@ public class CPSCore implements CPSCoreInterface {
         Context.require(period.periodName.get().equals(APPLICATION_PERIOD),
                 TAG + " Sponsor Vote can only be done on Application Period");
         PReps pReps = new PReps();
-        Context.require(!ArrayDBUtils.containsInArrayDb(from, blockAddresses),
+        Context.require(!pReps.hasRole(from, ROLE_BLOCKED),
                 TAG + ": You are blocked from CPS.");
-        Context.require(ArrayDBUtils.containsInArrayDb(from, pReps.validPreps), TAG + ": Not a P-Rep");
+        Context.require(pReps.hasRole(from, ROLE_VALID), TAG + ": Not a P-Rep");
 
-        swapBNUsdToken();
         Map<String, Object> proposalDetails = getProposalDetails(ipfsKey);
         String status = (String) proposalDetails.get(STATUS);
         Address sponsorAddress = (Address) proposalDetails.get(SPONSOR_ADDRESS);
@@ -2439,9 +2961,10 @@ public class CPSCore implements CPSCoreInterface {
         PReps pReps = new PReps();
         int size = pReps.denylist.size();
         for (int i = 0; i < size; i++) {
-            Address prep = pReps.denylist.pop();
+            Address prep = pReps.denylist.get(i);
             pReps.prepsDenylistStatus.set(prep.toString(), 0);
         }
+        pReps.clearRole(ROLE_DENYLISTED);
     }
 
 
@@ -2450,7 +2973,7 @@ public class CPSCore implements CPSCoreInterface {
     public void claimSponsorBond() {
         checkMaintenance();
         Address caller = Context.getCaller();
-        Context.require(!ArrayDBUtils.containsInArrayDb(caller, blockAddresses), TAG + ": Address is blocked");
+        Context.require(!new PReps().hasRole(caller, ROLE_BLOCKED), TAG + ": Address is blocked");
         DictDB<String, BigInteger> userAmounts = sponsorBondReturn.at(caller.toString());
         BigInteger amountIcx = userAmounts.getOrDefault(ICX, BigInteger.ZERO);
         BigInteger amountBNUsd = userAmounts.getOrDefault(bnUSD, BigInteger.ZERO);
@@ -2470,21 +2993,12 @@ public class CPSCore implements CPSCoreInterface {
     }
 
 
-    private void swapBNUsdToken() {
-        BigInteger sbh = swapBlockHeight.getOrDefault(BigInteger.ZERO);
-        BigInteger currentBlock = BigInteger.valueOf(Context.getBlockHeight());
-        if (sbh.compareTo(currentBlock) < 0) {
-            swapBlockHeight.set(currentBlock.add(SWAP_BLOCK_DIFF));
-            callScore(getCpfTreasuryScore(), "swapTokens", swapCount.getOrDefault(0));
-        }
-    }
-
     @Override
     @External
     public void setSwapCount(int value) {
         validateAdmins();
         if (value > 0) {
-            swapCount.set(value);
+            updateSwapCount(value);
         } else {
             Context.revert(value + " must be greater than 0");
         }
@@ -2496,6 +3010,15 @@ public class CPSCore implements CPSCoreInterface {
         return swapCount.getOrDefault(0);
     }
 
+    // the cpf treasury keeps its own copy of the count for the scheduled swaps
+    private void updateSwapCount(int value) {
+        swapCount.set(value);
+        Address cpfScore = new SetterGetter().cpfScore.get();
+        if (cpfScore != null) {
+            callScore(cpfScore, "setScheduledSwapCount", value);
+        }
+    }
+
     @Override
     @External
     public void updateNextBlock(int blockCount) {
@@ -2520,27 +3043,16 @@ public class CPSCore implements CPSCoreInterface {
 
     @External(readonly = true)
     public Map<String, Object> getActiveProposalsList(@Optional int startIndex) {
-        List<String> proposalKeys = new ArrayList<>();
         List<Map<String, Object>> activeProposalsList = new ArrayList<>();
+        Status status = new Status();
+        int size = totalSize(status.active, status.paused);
 
-        List<String> activeProposals = getProposalsKeysByStatus(ACTIVE);
-        proposalKeys.addAll(activeProposals);
-        List<String> pausedProposals = getProposalsKeysByStatus(PAUSED);
-        proposalKeys.addAll(pausedProposals);
-
-        int endIndex = startIndex + 10;
-        int size = proposalKeys.size();
-        if (endIndex > size) {
-            endIndex = size;
-        }
-
-        for (int i = startIndex; i < endIndex; i++) {
-            String proposalHash = proposalKeys.get(i);
+        for (String proposalHash : getPage(startIndex, 10, status.active, status.paused)) {
             String proposalPrefix = proposalPrefix(proposalHash);
-            Address contributorAddr = contributorAddress.at(proposalPrefix).get();
-            Map<String, Object> proposalDetails = Map.of(PROJECT_TITLE, projectTitle.at(proposalPrefix).getOrDefault(""),
+            ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+            Map<String, Object> proposalDetails = Map.of(PROJECT_TITLE, proposalRecord.projectTitle,
                     IPFS_HASH, proposalHash,
-                    CONTRIBUTOR_ADDRESS, contributorAddr);
+                    CONTRIBUTOR_ADDRESS, proposalRecord.contributorAddress);
             activeProposalsList.add(proposalDetails);
         }
         return Map.of(DATA, activeProposalsList, COUNT, size);
@@ -2562,10 +3074,11 @@ public class CPSCore implements CPSCoreInterface {
             String prefix = proposalPrefix(proposals);
             String status = ProposalDataDb.status.at(prefix).getOrDefault("");
             if (ArrayDBUtils.containsInList(status, List.of(ACTIVE, PAUSED))) {
-                int projectDuration = ProposalDataDb.projectDuration.at(prefix).getOrDefault(0);
+                ProposalRecord proposalRecord = getProposalRecord(prefix);
+                int projectDuration = proposalRecord.projectDuration;
                 int proposalPeriod = ProposalDataDb.proposalPeriod.at(prefix).getOrDefault(0);
                 boolean lastProgressReport = proposalPeriod + projectDuration - getPeriodCount() == 0;
-                Map<String, Object> _proposals_details = Map.of(PROJECT_TITLE, projectTitle.at(prefix).getOrDefault(""),
+                Map<String, Object> _proposals_details = Map.of(PROJECT_TITLE, proposalRecord.projectTitle,
                         IPFS_HASH, proposals,
                         NEW_PROGRESS_REPORT, submitProgressReport.at(prefix).getOrDefault(false),
                         "last_progress_report", lastProgressReport,
@@ -2605,24 +3118,12 @@ public class CPSCore implements CPSCoreInterface {
     @Override
     @External(readonly = true)
     public Map<String, Object> getProposalsHistory(@Optional int startIndex) {
-        List<String> proposalKeys = new ArrayList<>();
         List<Map<String, Object>> proposalHistory = new ArrayList<>();
+        Status status = new Status();
+        int size = totalSize(status.completed, status.rejected, status.disqualified);
 
-        List<String> completedProjects = getProposalsKeysByStatus(COMPLETED);
-        proposalKeys.addAll(completedProjects);
-        List<String> rejectedProposals = getProposalsKeysByStatus(REJECTED);
-        proposalKeys.addAll(rejectedProposals);
-        List<String> disqualifiedProjects = getProposalsKeysByStatus(DISQUALIFIED);
-        proposalKeys.addAll(disqualifiedProjects);
-
-        int endIndex = startIndex + 10;
-        int size = proposalKeys.size();
-        if (endIndex > size) {
-            endIndex = size;
-        }
-
-        for (int i = startIndex; i < endIndex; i++) {
-            Map<String, Object> proposalDetails = getProposalDetails(proposalKeys.get(i));
+        for (String proposalKey : getPage(startIndex, 10, status.completed, status.rejected, status.disqualified)) {
+            Map<String, Object> proposalDetails = getProposalDetails(proposalKey);
             proposalHistory.add(proposalDetails);
         }
         return Map.of(DATA, proposalHistory, COUNT, size);
@@ -2640,16 +3141,14 @@ public class CPSCore implements CPSCoreInterface {
             int milestoneId = milestoneIDs.get(i);
             String milestonePrefix = mileStonePrefix(ipfsHash, milestoneId);
             int proposalPeriod = ProposalDataDb.proposalPeriod.at(ipfsHashPrefix).getOrDefault(0);
-            int completionPeriod = MilestoneDb.completionPeriod.at(milestonePrefix).getOrDefault(0);
-
-            int computedCompletionPeriod = proposalPeriod + completionPeriod;
+            MilestoneRecord milestoneRecord = getMilestoneRecord(milestonePrefix);
 
-            int status = MilestoneDb.status.at(milestonePrefix).getOrDefault(0);
+            int computedCompletionPeriod = proposalPeriod + milestoneRecord.completionPeriod;
 
-            if (status != MILESTONE_REPORT_APPROVED) {
+            if (milestoneRecord.status != MILESTONE_REPORT_APPROVED) {
                 milestoneIdList.add(Map.of(MILESTONE_ID, milestoneId,
                         COMPLETION_PERIOD, computedCompletionPeriod,
-                        BUDGET, MilestoneDb.budget.at(milestonePrefix).getOrDefault(BigInteger.ZERO))
+                        BUDGET, milestoneRecord.budget)
                 );
             }
         }
@@ -2658,6 +3157,54 @@ public class CPSCore implements CPSCoreInterface {
 
     //    =====================================TEMPORARY MIGRATIONS METHODS===============================================
 
+    @External
+    public void backfillProjectAmounts(int maxItems) {
+        validateAdmins();
+        Context.require(maxItems > 0, TAG + ": Items to process should be greater than zero.");
+        ProjectAmounts projectAmounts = new ProjectAmounts();
+        int cursor = projectAmounts.backfillCursor.getOrDefault(0);
+        int end = Math.min(cursor + maxItems, proposalsKeyList.size());
+        for (int i = cursor; i < end; i++) {
+            String proposal = proposalsKeyList.get(i);
+            if (projectAmounts.countedStatus.get(proposal) == null) {
+                String proposalPrefix = proposalPrefix(proposal);
+                ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+                projectAmounts.add(proposal, ProposalDataDb.status.at(proposalPrefix).getOrDefault(""),
+                        proposalRecord.token, proposalRecord.totalBudget);
+            }
+        }
+        projectAmounts.backfillCursor.set(end);
+        if (end == proposalsKeyList.size()) {
+            projectAmounts.ready.set(true);
+        }
+    }
+
+    @External
+    public void backfillSponsorIndex(int maxItems) {
+        validateAdmins();
+        Context.require(maxItems > 0, TAG + ": Items to process should be greater than zero.");
+        SponsorIndex sponsorIndex = new SponsorIndex();
+        int cursor = sponsorIndex.backfillCursor.getOrDefault(0);
+        int end = Math.min(cursor + maxItems, proposalsKeyList.size());
+        for (int i = cursor; i < end; i++) {
+            String proposal = proposalsKeyList.get(i);
+            if (sponsorIndex.indexedStatus.get(proposal) == null) {
+                String proposalPrefix = proposalPrefix(proposal);
+                ProposalRecord proposalRecord = getProposalRecord(proposalPrefix);
+                sponsorIndex.add(proposal, proposalRecord.sponsorAddress,
+                        ProposalDataDb.status.at(proposalPrefix).getOrDefault(""));
+                if (BOND_APPROVED.equals(sponsorDepositStatus.at(proposalPrefix).get())) {
+                    sponsorIndex.addBond(proposal, proposalRecord.sponsorAddress, proposalRecord.token,
+                            sponsorDepositAmount.at(proposalPrefix).getOrDefault(BigInteger.ZERO));
+                }
+            }
+        }
+        sponsorIndex.backfillCursor.set(end);
+        if (end == proposalsKeyList.size()) {
+            sponsorIndex.ready.set(true);
+        }
+    }
+
     @External
     public void updateProposalPeriodCount(String newHash, int count) {
         validateAdmins();
@@ -2684,9 +3231,10 @@ public class CPSCore implements CPSCoreInterface {
             String actual_milestonePrefix = mileStonePrefix(ipfsHash, milestoneId.get(i));
 
             MilestonesAttributes milestonesAttributes = new MilestonesAttributes();
-            milestonesAttributes.id = MilestoneDb.id.at(migration_milestonePrefix).get();
-            milestonesAttributes.budget = MilestoneDb.budget.at(migration_milestonePrefix).get();
-            milestonesAttributes.completionPeriod = MilestoneDb.completionPeriod.at(migration_milestonePrefix).get();
+            MilestoneRecord migrationRecord = getMilestoneRecord(migration_milestonePrefix);
+            milestonesAttributes.id = migrationRecord.id;
+            milestonesAttributes.budget = migrationRecord.budget;
+            milestonesAttributes.completionPeriod = migrationRecord.completionPeriod;
             addDataToMilestoneDb(milestonesAttributes, actual_milestonePrefix);
 
         }
@@ -2695,18 +3243,41 @@ public class CPSCore implements CPSCoreInterface {
     @External
     public void blockAddress(Address walletAddress) {
         validateAdmins();
-        Context.require(!ArrayDBUtils.containsInArrayDb(walletAddress, blockAddresses),
-                TAG + ": Address already blocked");
         PReps pReps = new PReps();
-        if (ArrayDBUtils.containsInArrayDb(walletAddress, pReps.validPreps)) {
-            ArrayDBUtils.removeArrayItem(pReps.validPreps, walletAddress);
-        }
-        blockAddresses.add(walletAddress);
+        Context.require(!pReps.hasRole(walletAddress, ROLE_BLOCKED),
+                TAG + ": Address already blocked");
+        pReps.removeRole(walletAddress, ROLE_VALID);
+        pReps.addRole(walletAddress, ROLE_BLOCKED);
+        pushConfig(new Address[]{walletAddress}, false);
     }
 
     @External(readonly = true)
     public List<Address> getBlockedAddresses() {
-        return ArrayDBUtils.arrayDBtoList(blockAddresses);
+        return ArrayDBUtils.arrayDBtoList(new PReps().blockedAddresses);
+    }
+
+    @Override
+    @External(readonly = true)
+    public boolean isBlocked(Address address) {
+        return new PReps().hasRole(address, ROLE_BLOCKED);
+    }
+
+    @Override
+    @External(readonly = true)
+    public boolean isValidPrep(Address address) {
+        return new PReps().hasRole(address, ROLE_VALID);
+    }
+
+    @Override
+    @External(readonly = true)
+    public Map<String, Boolean> getRoles(Address address) {
+        int roles = new PReps().getRoles(address);
+        return Map.of("valid", (roles & ROLE_VALID) != 0,
+                "registered", (roles & ROLE_REGISTERED) != 0,
+                "unregistered", (roles & ROLE_UNREGISTERED) != 0,
+                "denylisted", (roles & ROLE_DENYLISTED) != 0,
+                "inactive", (roles & ROLE_INACTIVE) != 0,
+                "blocked", (roles & ROLE_BLOCKED) != 0);
     }
 
     @Override
@@ -2721,11 +3292,12 @@ public class CPSCore implements CPSCoreInterface {
 
         // changes to proposal db
         String proposalPrefix = proposalPrefix(_ipfs_hash);
-        contributorAddress.at(proposalPrefix).set(_new_contributor);
+        setContributorAddress(proposalPrefix, _new_contributor);
 
         // update contributor's address
         Address _contributor_address = (Address) _proposal_details.get(CONTRIBUTOR_ADDRESS);
-        Context.require(ArrayDBUtils.containsInArrayDb(_contributor_address, blockAddresses),
+        PReps pReps = new PReps();
+        Context.require(pReps.hasRole(_contributor_address, ROLE_BLOCKED),
                 TAG + ": Old address must be blocked before migration.");
         removeContributor(_contributor_address, _ipfs_hash);
 
@@ -2736,15 +3308,19 @@ public class CPSCore implements CPSCoreInterface {
         // request update contributor address and sponsor address to cps treasury
         if (_new_sponsor != null) {
             Context.require(!_new_sponsor.isContract(), TAG + ": Sponsor address cannot be contract address.");
-            sponsorAddress.at(proposalPrefix).set(_new_sponsor);
+            setSponsorAddress(proposalPrefix, _new_sponsor);
 
             Address _sponsor_address = (Address) _proposal_details.get(SPONSOR_ADDRESS);
-            Context.require(ArrayDBUtils.containsInArrayDb(_sponsor_address, blockAddresses),
+            Context.require(pReps.hasRole(_sponsor_address, ROLE_BLOCKED),
                     TAG + ": Old sponsorAddress must be blocked before migration.");
             removeSponsor(_sponsor_address, _ipfs_hash);
 
             sponsors.add(_new_sponsor);
             sponsorProjects.at(_new_sponsor).add(_ipfs_hash);
+            BigInteger approvedBond = BOND_APPROVED.equals(sponsorDepositStatus.at(proposalPrefix).get()) ?
+                    sponsorDepositAmount.at(proposalPrefix).getOrDefault(BigInteger.ZERO) : BigInteger.ZERO;
+            new SponsorIndex().changeSponsor(_ipfs_hash, _sponsor_address, _new_sponsor,
+                    (String) _proposal_details.get(TOKEN), approvedBond);
 
             callScore(getCpsTreasuryScore(), "updateContributorSponsorAddress", _ipfs_hash, _new_contributor, _new_sponsor);
             UpdateSponsorAddress(_sponsor_address, _new_sponsor);
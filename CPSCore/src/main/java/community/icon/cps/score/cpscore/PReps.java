@@ -1,18 +1,38 @@
 package community.icon.cps.score.cpscore;
 
+import community.icon.cps.score.cpscore.db.PRepSnapshot;
+import community.icon.cps.score.cpscore.utils.ArrayDBUtils;
 import score.Address;
 import score.ArrayDB;
+import score.BranchDB;
 import score.Context;
 import score.DictDB;
+import score.VarDB;
 
 import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
 
+import static community.icon.cps.score.cpscore.utils.Constants.BLOCKED_ADDRESSES;
 import static community.icon.cps.score.cpscore.utils.Constants.DENYLIST;
 import static community.icon.cps.score.cpscore.utils.Constants.INACTIVE_PREPS;
 import static community.icon.cps.score.cpscore.utils.Constants.MAIN_PREPS;
 import static community.icon.cps.score.cpscore.utils.Constants.PENALTY_AMOUNT;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_CAST_VOTES;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_REQUIRED_VOTES;
 import static community.icon.cps.score.cpscore.utils.Constants.PREPS_DENYLIST_STATUS;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_ROLES;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_ROLES_SYNCED;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_ROLE_POSITIONS;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_TERM_SNAPSHOT;
+import static community.icon.cps.score.cpscore.utils.Constants.PREP_TERM_SNAPSHOT_ID;
 import static community.icon.cps.score.cpscore.utils.Constants.REGISTERED_PREPS;
+import static community.icon.cps.score.cpscore.utils.Constants.ROLE_BLOCKED;
+import static community.icon.cps.score.cpscore.utils.Constants.ROLE_DENYLISTED;
+import static community.icon.cps.score.cpscore.utils.Constants.ROLE_INACTIVE;
+import static community.icon.cps.score.cpscore.utils.Constants.ROLE_REGISTERED;
+import static community.icon.cps.score.cpscore.utils.Constants.ROLE_UNREGISTERED;
+import static community.icon.cps.score.cpscore.utils.Constants.ROLE_VALID;
 import static community.icon.cps.score.cpscore.utils.Constants.UNREGISTERED_PREPS;
 
 public class PReps {
@@ -21,8 +41,166 @@ public class PReps {
     public final ArrayDB<Address> registeredPreps = Context.newArrayDB(REGISTERED_PREPS, Address.class);
     public final ArrayDB<Address> inactivePreps = Context.newArrayDB(INACTIVE_PREPS, Address.class);
     public final ArrayDB<Address> denylist = Context.newArrayDB(DENYLIST, Address.class);
+    public final ArrayDB<Address> blockedAddresses = Context.newArrayDB(BLOCKED_ADDRESSES, Address.class);
 
     public final ArrayDB<BigInteger> penaltyAmount = Context.newArrayDB(PENALTY_AMOUNT, BigInteger.class);
 
     public final DictDB<String, Integer> prepsDenylistStatus = Context.newDictDB(PREPS_DENYLIST_STATUS, Integer.class);
+
+    // role bitmask per address, the ArrayDBs above are kept as the enumerable view of each role
+    public final DictDB<Address, Integer> roles = Context.newDictDB(PREP_ROLES, Integer.class);
+    // 1 based position of each address in the list of every role, keyed by role
+    public final BranchDB<Integer, DictDB<Address, Integer>> rolePositions = Context.newBranchDB(PREP_ROLE_POSITIONS, Integer.class);
+    public final VarDB<Boolean> rolesSynced = Context.newVarDB(PREP_ROLES_SYNCED, Boolean.class);
+
+    // votes each valid P-Rep has to cast in a voting period and the votes they cast, keyed by period count
+    public final DictDB<Integer, Integer> requiredVotes = Context.newDictDB(PREP_REQUIRED_VOTES, Integer.class);
+    public final BranchDB<Integer, DictDB<Address, Integer>> castVotes = Context.newBranchDB(PREP_CAST_VOTES, Integer.class);
+
+    // taken from getPRepTerm whenever the valid P-Reps are set, entries of older snapshots are ignored
+    public final DictDB<Address, PRepSnapshot> termSnapshot = Context.newDictDB(PREP_TERM_SNAPSHOT, PRepSnapshot.class);
+    public final VarDB<Integer> termSnapshotId = Context.newVarDB(PREP_TERM_SNAPSHOT_ID, Integer.class);
+
+    private static final int[] ALL_ROLES = {ROLE_VALID, ROLE_REGISTERED, ROLE_UNREGISTERED, ROLE_DENYLISTED,
+            ROLE_INACTIVE, ROLE_BLOCKED};
+
+    private ArrayDB<Address> roleList(int role) {
+        switch (role) {
+            case ROLE_VALID:
+                return validPreps;
+            case ROLE_REGISTERED:
+                return registeredPreps;
+            case ROLE_UNREGISTERED:
+                return unregisteredPreps;
+            case ROLE_DENYLISTED:
+                return denylist;
+            case ROLE_INACTIVE:
+                return inactivePreps;
+            case ROLE_BLOCKED:
+                return blockedAddresses;
+            default:
+                throw new IllegalArgumentException("Invalid role " + role);
+        }
+    }
+
+    public int getRoles(Address address) {
+        return roles.getOrDefault(address, 0);
+    }
+
+    public boolean hasRole(Address address, int role) {
+        if (address == null) {
+            return false;
+        }
+        return (getRoles(address) & role) != 0;
+    }
+
+    public void addRole(Address address, int role) {
+        int current = getRoles(address);
+        if ((current & role) != 0) {
+            return;
+        }
+        ArrayDBUtils.addIndexedItem(roleList(role), rolePositions.at(role), address);
+        roles.set(address, current | role);
+    }
+
+    public void removeRole(Address address, int role) {
+        int current = getRoles(address);
+        if ((current & role) == 0) {
+            return;
+        }
+        ArrayDBUtils.removeIndexedItem(roleList(role), rolePositions.at(role), address);
+        setRoles(address, current & ~role);
+    }
+
+    public void clearRole(int role) {
+        ArrayDB<Address> list = roleList(role);
+        int size = list.size();
+        for (int i = 0; i < size; i++) {
+            Address address = list.pop();
+            setRoles(address, getRoles(address) & ~role);
+            rolePositions.at(role).set(address, null);
+        }
+    }
+
+    // builds the bitmask and positions from the role lists stored before the registry existed, only once
+    public void syncRoles() {
+        if (rolesSynced.getOrDefault(false)) {
+            return;
+        }
+        for (int role : ALL_ROLES) {
+            ArrayDB<Address> list = roleList(role);
+            DictDB<Address, Integer> positions = rolePositions.at(role);
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                Address address = list.get(i);
+                roles.set(address, getRoles(address) | role);
+                positions.set(address, i + 1);
+            }
+        }
+        rolesSynced.set(true);
+    }
+
+    public boolean isParticipationTracked(int period) {
+        return requiredVotes.get(period) != null;
+    }
+
+    public void countVotes(int period, Address prep, int votes) {
+        if (isParticipationTracked(period)) {
+            DictDB<Address, Integer> periodVotes = castVotes.at(period);
+            periodVotes.set(prep, periodVotes.getOrDefault(prep, 0) + votes);
+        }
+    }
+
+    // P-Reps that did not vote on every proposal, milestone and the priority ranking of the period become inactive
+    public void updateInactivePreps(int period) {
+        int required = requiredVotes.getOrDefault(period, 0);
+        DictDB<Address, Integer> periodVotes = castVotes.at(period);
+        int size = validPreps.size();
+        for (int i = 0; i < size; i++) {
+            Address prep = validPreps.get(i);
+            if (periodVotes.getOrDefault(prep, 0) < required) {
+                addRole(prep, ROLE_INACTIVE);
+            }
+        }
+    }
+
+    public void snapshotTerm(List<Map<String, Object>> term) {
+        int snapshotId = termSnapshotId.getOrDefault(0) + 1;
+        termSnapshotId.set(snapshotId);
+        for (Map<String, Object> prep : term) {
+            setSnapshot(prep, snapshotId);
+        }
+    }
+
+    public void snapshotPRep(Map<String, Object> prep) {
+        int snapshotId = termSnapshotId.getOrDefault(0);
+        if (snapshotId > 0) {
+            setSnapshot(prep, snapshotId);
+        }
+    }
+
+    public boolean hasTermSnapshot() {
+        return termSnapshotId.getOrDefault(0) > 0;
+    }
+
+    public PRepSnapshot getSnapshot(Address address) {
+        PRepSnapshot snapshot = termSnapshot.get(address);
+        if (snapshot == null || snapshot.snapshotId != termSnapshotId.getOrDefault(0)) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    private void setSnapshot(Map<String, Object> prep, int snapshotId) {
+        PRepSnapshot snapshot = new PRepSnapshot();
+        snapshot.name = (String) prep.get("name");
+        snapshot.power = (BigInteger) prep.getOrDefault("power", BigInteger.ZERO);
+        snapshot.grade = (BigInteger) prep.get("grade");
+        snapshot.snapshotId = snapshotId;
+        termSnapshot.set((Address) prep.get("address"), snapshot);
+    }
+
+    private void setRoles(Address address, int value) {
+        roles.set(address, value == 0 ? null : value);
+    }
 }
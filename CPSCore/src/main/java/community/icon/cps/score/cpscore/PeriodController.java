@@ -1,5 +1,6 @@
 package community.icon.cps.score.cpscore;
 
+import score.ArrayDB;
 import score.Context;
 import score.VarDB;
 
@@ -14,4 +15,17 @@ public class PeriodController {
     public final VarDB<BigInteger> nextBlock = Context.newVarDB(NEXTBLOCK, BigInteger.class);
     public final VarDB<Integer> updatePeriodIndex = Context.newVarDB(UPDATE_PERIOD_INDEX, Integer.class);
     public final VarDB<Integer> periodCount = Context.newVarDB(PERIOD_COUNT, Integer.class);
+
+    // resumable state of the current update period stage
+    public final VarDB<Integer> updatePeriodCursor = Context.newVarDB(UPDATE_PERIOD_CURSOR, Integer.class);
+    public final ArrayDB<String> updatePeriodQueue = Context.newArrayDB(UPDATE_PERIOD_QUEUE, String.class);
+    public final VarDB<BigInteger> distributionAmount = Context.newVarDB(UPDATE_PERIOD_DISTRIBUTION_AMOUNT, BigInteger.class);
+    // the queue is built across calls as well, items copied so far and whether it is complete
+    public final VarDB<Integer> updatePeriodFillCursor = Context.newVarDB(UPDATE_PERIOD_FILL_CURSOR, Integer.class);
+    public final VarDB<Boolean> updatePeriodQueueFilled = Context.newVarDB(UPDATE_PERIOD_QUEUE_FILLED, Boolean.class);
+
+    // queues filled before the flag existed are complete once their processing started
+    public boolean isUpdatePeriodQueueFilled() {
+        return updatePeriodQueueFilled.getOrDefault(false) || updatePeriodCursor.getOrDefault(0) > 0;
+    }
 }
@@ -0,0 +1,177 @@
+package community.icon.cps.score.cpscore;
+
+import community.icon.cps.score.cpscore.utils.ArrayDBUtils;
+import score.ArrayDB;
+import score.BranchDB;
+import score.Context;
+import score.DictDB;
+import score.VarDB;
+
+import java.util.List;
+
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_FIRST_ORDER;
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_LAST_ORDER;
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_ORDER;
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_RANKING;
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_RANKING_GENERATION;
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_RANKING_INDEX;
+import static community.icon.cps.score.cpscore.utils.Constants.PRIORITY_SYNCED_GENERATION;
+import static community.icon.cps.score.cpscore.utils.Constants.PROPOSAL_RANK;
+
+/***
+ Pending proposals kept sorted by priority rank. Ties are ordered by the order of each proposal, the larger first:
+ proposals that become pending get a larger order than any before them and proposals that stay pending after the
+ transition period a smaller one. Each generation has its own ranking, which is kept up to date only while the
+ generation is the synced one. Starting a new generation drops the previous ranking without touching its entries.
+ ***/
+public class PriorityRanking {
+    private final BranchDB<Integer, ArrayDB<String>> rankings = Context.newBranchDB(PRIORITY_RANKING, String.class);
+    public final DictDB<String, Integer> proposalRank = Context.newDictDB(PROPOSAL_RANK, Integer.class);
+
+    // 1 based position in the ranking of the current generation
+    private final DictDB<String, Integer> rankingIndex = Context.newDictDB(PRIORITY_RANKING_INDEX, Integer.class);
+    private final DictDB<String, Integer> order = Context.newDictDB(PRIORITY_ORDER, Integer.class);
+    private final VarDB<Integer> lastOrder = Context.newVarDB(PRIORITY_LAST_ORDER, Integer.class);
+    private final VarDB<Integer> firstOrder = Context.newVarDB(PRIORITY_FIRST_ORDER, Integer.class);
+
+    private final VarDB<Integer> generation = Context.newVarDB(PRIORITY_RANKING_GENERATION, Integer.class);
+    private final VarDB<Integer> syncedGeneration = Context.newVarDB(PRIORITY_SYNCED_GENERATION, Integer.class);
+
+    public ArrayDB<String> getRankingDb() {
+        return rankings.at(generation.getOrDefault(0));
+    }
+
+    public boolean isSynced(ArrayDB<String> pending) {
+        return isCurrent() && getRankingDb().size() == pending.size();
+    }
+
+    public boolean contains(String proposal) {
+        ArrayDB<String> ranking = getRankingDb();
+        int index = rankingIndex.getOrDefault(proposal, 0);
+        return isCurrent() && index > 0 && index <= ranking.size() && ranking.get(index - 1).equals(proposal);
+    }
+
+    public List<String> getRanking() {
+        return ArrayDBUtils.arrayDBtoList(getRankingDb());
+    }
+
+    /***
+     Ranks the pending proposals in a fresh generation, at most maxItems of them per call starting from the cursor.
+     Ties get the order of their pending slot, the way mergeSort leaves them. Returns true once all are ranked.
+     ***/
+    public boolean build(ArrayDB<String> pending, VarDB<Integer> cursor, int maxItems) {
+        int start = cursor.getOrDefault(0);
+        if (start == 0 && getRankingDb().size() > 0) {
+            generation.set(generation.getOrDefault(0) + 1);
+        }
+        ArrayDB<String> ranking = getRankingDb();
+        int size = pending.size();
+        int end = Math.min(start + maxItems, size);
+        for (int i = start; i < end; i++) {
+            String proposal = pending.get(i);
+            order.set(proposal, i + 1);
+            ranking.add(proposal);
+            moveUp(ranking, proposal, ranking.size() - 1);
+        }
+        if (end < size) {
+            cursor.set(end);
+            return false;
+        }
+        cursor.set(0);
+        lastOrder.set(Math.max(lastOrder.getOrDefault(0), size));
+        syncedGeneration.set(generation.getOrDefault(0));
+        return true;
+    }
+
+    // the proposals of the current ranking are taken over by the transition period, the next one starts empty
+    public void nextGeneration() {
+        int next = generation.getOrDefault(0) + 1;
+        generation.set(next);
+        syncedGeneration.set(next);
+    }
+
+    // called once the proposal has become pending
+    public void add(String proposal) {
+        if (!isCurrent()) {
+            return;
+        }
+        int next = lastOrder.getOrDefault(0) + 1;
+        lastOrder.set(next);
+        order.set(proposal, next);
+        ArrayDB<String> ranking = getRankingDb();
+        ranking.add(proposal);
+        moveUp(ranking, proposal, ranking.size() - 1);
+    }
+
+    public void addPoints(String proposal, int points) {
+        proposalRank.set(proposal, proposalRank.getOrDefault(proposal, 0) + points);
+        if (contains(proposal)) {
+            moveUp(getRankingDb(), proposal, rankingIndex.get(proposal) - 1);
+        }
+    }
+
+    // called once the proposal has left the pending list
+    public void remove(String proposal) {
+        if (contains(proposal)) {
+            ArrayDB<String> ranking = getRankingDb();
+            int size = ranking.size();
+            for (int i = rankingIndex.get(proposal); i < size; i++) {
+                String shifted = ranking.get(i);
+                ranking.set(i - 1, shifted);
+                rankingIndex.set(shifted, i);
+            }
+            ranking.pop();
+        }
+        rankingIndex.set(proposal, null);
+        order.set(proposal, null);
+        proposalRank.set(proposal, null);
+    }
+
+    // the proposal stays pending for the next period with its rank reset, it goes after all others
+    public void carry(String proposal) {
+        remove(proposal);
+        if (isCurrent()) {
+            int next = firstOrder.getOrDefault(0) - 1;
+            firstOrder.set(next);
+            order.set(proposal, next);
+            ArrayDB<String> ranking = getRankingDb();
+            ranking.add(proposal);
+            rankingIndex.set(proposal, ranking.size());
+        }
+    }
+
+    private boolean isCurrent() {
+        Integer synced = syncedGeneration.get();
+        return synced != null && synced.equals(generation.getOrDefault(0));
+    }
+
+    // the rank of a proposal only grows, so it can only move towards the front
+    private void moveUp(ArrayDB<String> ranking, String proposal, int from) {
+        int rank = proposalRank.getOrDefault(proposal, 0);
+        int proposalOrder = order.getOrDefault(proposal, 0);
+
+        int low = 0;
+        int high = from;
+        while (low < high) {
+            int mid = (low + high) / 2;
+            if (isBefore(rank, proposalOrder, ranking.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        for (int i = from; i > low; i--) {
+            String shifted = ranking.get(i - 1);
+            ranking.set(i, shifted);
+            rankingIndex.set(shifted, i + 1);
+        }
+        ranking.set(low, proposal);
+        rankingIndex.set(proposal, low + 1);
+    }
+
+    private boolean isBefore(int rank, int proposalOrder, String other) {
+        int otherRank = proposalRank.getOrDefault(other, 0);
+        return rank > otherRank || (rank == otherRank && proposalOrder > order.getOrDefault(other, 0));
+    }
+}
@@ -0,0 +1,58 @@
+package community.icon.cps.score.cpscore;
+
+import score.BranchDB;
+import score.Context;
+import score.DictDB;
+import score.VarDB;
+
+import java.math.BigInteger;
+
+import static community.icon.cps.score.cpscore.utils.Constants.ICX;
+import static community.icon.cps.score.cpscore.utils.Constants.PROJECT_AMOUNTS;
+import static community.icon.cps.score.cpscore.utils.Constants.PROJECT_AMOUNTS_BACKFILL_CURSOR;
+import static community.icon.cps.score.cpscore.utils.Constants.PROJECT_AMOUNTS_COUNTED_STATUS;
+import static community.icon.cps.score.cpscore.utils.Constants.PROJECT_AMOUNTS_READY;
+import static community.icon.cps.score.cpscore.utils.Constants.bnUSD;
+
+/***
+ Running budget sums of the proposals per status and token. A proposal is part of the sums once its counted
+ status is set, proposals submitted before the sums existed are added by the backfill.
+ ***/
+public class ProjectAmounts {
+    public final BranchDB<String, DictDB<String, BigInteger>> statusAmounts = Context.newBranchDB(PROJECT_AMOUNTS, BigInteger.class);
+    public final DictDB<String, String> countedStatus = Context.newDictDB(PROJECT_AMOUNTS_COUNTED_STATUS, String.class);
+    public final VarDB<Integer> backfillCursor = Context.newVarDB(PROJECT_AMOUNTS_BACKFILL_CURSOR, Integer.class);
+    public final VarDB<Boolean> ready = Context.newVarDB(PROJECT_AMOUNTS_READY, Boolean.class);
+
+    public BigInteger getAmount(String status, String token) {
+        return statusAmounts.at(status).getOrDefault(token, BigInteger.ZERO);
+    }
+
+    public void add(String proposal, String status, String token, BigInteger budget) {
+        addAmount(status, token, budget);
+        countedStatus.set(proposal, status);
+    }
+
+    public void move(String proposal, String status, String token, BigInteger budget) {
+        String current = countedStatus.get(proposal);
+        if (current == null || current.equals(status)) {
+            return;
+        }
+        addAmount(current, token, budget.negate());
+        add(proposal, status, token, budget);
+    }
+
+    public void adjust(String proposal, String token, BigInteger amount) {
+        String current = countedStatus.get(proposal);
+        if (current != null) {
+            addAmount(current, token, amount);
+        }
+    }
+
+    // budgets in any token other than ICX are summed as bnUSD
+    private void addAmount(String status, String token, BigInteger amount) {
+        String key = ICX.equals(token) ? ICX : bnUSD;
+        DictDB<String, BigInteger> amounts = statusAmounts.at(status);
+        amounts.set(key, amounts.getOrDefault(key, BigInteger.ZERO).add(amount));
+    }
+}
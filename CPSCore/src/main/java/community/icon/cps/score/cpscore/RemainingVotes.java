@@ -0,0 +1,82 @@
+package community.icon.cps.score.cpscore;
+
+import score.Address;
+import score.ArrayDB;
+import score.BranchDB;
+import score.Context;
+import score.DictDB;
+import scorex.util.ArrayList;
+
+import java.util.List;
+
+import static community.icon.cps.score.cpscore.utils.Constants.PENDING;
+import static community.icon.cps.score.cpscore.utils.Constants.PROPOSAL;
+import static community.icon.cps.score.cpscore.utils.Constants.REMAINING_VOTES_ENTRIES;
+import static community.icon.cps.score.cpscore.utils.Constants.REMAINING_VOTES_POSITIONS;
+import static community.icon.cps.score.cpscore.utils.Constants.REMAINING_VOTES_SIZE;
+import static community.icon.cps.score.cpscore.utils.Constants.WAITING;
+
+/***
+ Pending proposals or waiting progress reports each P-Rep has left to vote on in a voting period. The set starts
+ out as the whole list, which does not change during the voting period, and the first vote on an item removes it
+ by moving the last entry into its place. Only the moved entries are stored, so a vote is a few writes and the
+ remaining items are read without looking at the voted ones. The sets of a period are left behind with at most
+ the items that were not voted on.
+ ***/
+public class RemainingVotes {
+    private final DictDB<String, Integer> remainingSize = Context.newDictDB(REMAINING_VOTES_SIZE, Integer.class);
+    // entries moved away from their place in the list, and the 0 based place of each moved item
+    private final BranchDB<String, DictDB<Integer, String>> movedEntries = Context.newBranchDB(REMAINING_VOTES_ENTRIES, String.class);
+    private final BranchDB<String, DictDB<String, Integer>> movedPositions = Context.newBranchDB(REMAINING_VOTES_POSITIONS, Integer.class);
+
+    public List<String> getRemaining(int period, Address prep, String projectType) {
+        ArrayDB<String> items = openItems(new Status(), projectType);
+        String key = setKey(period, prep, projectType);
+        DictDB<Integer, String> entries = movedEntries.at(key);
+        int size = remainingSize.getOrDefault(key, items.size());
+        List<String> remaining = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            remaining.add(entryAt(items, entries, i));
+        }
+        return remaining;
+    }
+
+    public void markVoted(int period, Address prep, String projectType, String item) {
+        Status status = new Status();
+        ArrayDB<String> items = openItems(status, projectType);
+        String key = setKey(period, prep, projectType);
+        DictDB<Integer, String> entries = movedEntries.at(key);
+        DictDB<String, Integer> positions = movedPositions.at(key);
+        int size = remainingSize.getOrDefault(key, items.size());
+
+        Integer moved = positions.get(item);
+        int position = moved != null ? moved : (projectType.equals(PROPOSAL) ?
+                status.getProposalPosition(item, PENDING) : status.getProgressReportPosition(item, WAITING)) - 1;
+        if (position < 0 || position >= size || !entryAt(items, entries, position).equals(item)) {
+            return;
+        }
+
+        int last = size - 1;
+        if (position < last) {
+            String lastItem = entryAt(items, entries, last);
+            entries.set(position, lastItem);
+            positions.set(lastItem, position);
+        }
+        entries.set(last, null);
+        positions.set(item, null);
+        remainingSize.set(key, last);
+    }
+
+    private ArrayDB<String> openItems(Status status, String projectType) {
+        return projectType.equals(PROPOSAL) ? status.pending : status.waitingProgressReports;
+    }
+
+    private String entryAt(ArrayDB<String> items, DictDB<Integer, String> entries, int position) {
+        String entry = entries.get(position);
+        return entry != null ? entry : items.get(position);
+    }
+
+    private String setKey(int period, Address prep, String projectType) {
+        return period + "|" + prep + "|" + projectType;
+    }
+}
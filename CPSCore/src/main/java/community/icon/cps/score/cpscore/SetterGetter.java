@@ -2,6 +2,7 @@ package community.icon.cps.score.cpscore;
 
 import score.Address;
 import score.Context;
+import score.DictDB;
 import score.VarDB;
 import score.annotation.External;
 
@@ -17,6 +18,9 @@ public class SetterGetter {
     public final VarDB<Address> balancedDollar = Context.newVarDB(BALANCED_DOLLAR, Address.class);
     public final VarDB<Boolean> budgetAdjustment = Context.newVarDB(BUDGETADJUSTMENT, Boolean.class);
     public final VarDB<Boolean> maintenance = Context.newVarDB(MAINTENANCE, Boolean.class);
-
-
+    // version of the admins and settings last replicated to the treasuries
+    public final VarDB<BigInteger> configVersion = Context.newVarDB(CONFIG_VERSION, BigInteger.class);
+    // version last sent to each treasury address, a treasury that missed a version gets the full blocked list
+    public final DictDB<Address, BigInteger> configPushedVersion = Context.newDictDB(CONFIG_PUSHED_VERSION,
+            BigInteger.class);
 }
@@ -0,0 +1,83 @@
+package community.icon.cps.score.cpscore;
+
+import community.icon.cps.score.cpscore.utils.ArrayDBUtils;
+import score.Address;
+import score.ArrayDB;
+import score.BranchDB;
+import score.Context;
+import score.DictDB;
+import score.VarDB;
+
+import java.math.BigInteger;
+
+import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_APPROVED_BONDS;
+import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_INDEX_BACKFILL_CURSOR;
+import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_INDEX_POSITION;
+import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_INDEX_READY;
+import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_INDEXED_STATUS;
+import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_STATUS_PROPOSALS;
+
+/***
+ Proposals of each sponsor by status, and the sum of the sponsor bonds that are currently approved. A proposal is
+ part of the index once its indexed status is set, proposals submitted before the index existed are added by the
+ backfill.
+ ***/
+public class SponsorIndex {
+    public final BranchDB<Address, BranchDB<String, ArrayDB<String>>> sponsorProposals = Context.newBranchDB(SPONSOR_STATUS_PROPOSALS, String.class);
+    public final BranchDB<Address, DictDB<String, BigInteger>> approvedBonds = Context.newBranchDB(SPONSOR_APPROVED_BONDS, BigInteger.class);
+    public final DictDB<String, String> indexedStatus = Context.newDictDB(SPONSOR_INDEXED_STATUS, String.class);
+    // 1 based position of a proposal in the list of its sponsor and indexed status
+    private final DictDB<String, Integer> position = Context.newDictDB(SPONSOR_INDEX_POSITION, Integer.class);
+    public final VarDB<Integer> backfillCursor = Context.newVarDB(SPONSOR_INDEX_BACKFILL_CURSOR, Integer.class);
+    public final VarDB<Boolean> ready = Context.newVarDB(SPONSOR_INDEX_READY, Boolean.class);
+
+    public ArrayDB<String> getProposals(Address sponsor, String status) {
+        return sponsorProposals.at(sponsor).at(status);
+    }
+
+    public BigInteger getApprovedBond(Address sponsor, String token) {
+        return approvedBonds.at(sponsor).getOrDefault(token, BigInteger.ZERO);
+    }
+
+    public void add(String proposal, Address sponsor, String status) {
+        ArrayDBUtils.addIndexedItem(getProposals(sponsor, status), position, proposal);
+        indexedStatus.set(proposal, status);
+    }
+
+    public void move(String proposal, Address sponsor, String status) {
+        String current = indexedStatus.get(proposal);
+        if (current == null || current.equals(status)) {
+            return;
+        }
+        remove(proposal, sponsor, current);
+        add(proposal, sponsor, status);
+    }
+
+    // the bond moves along with the proposal when it was approved
+    public void changeSponsor(String proposal, Address oldSponsor, Address newSponsor, String token,
+                              BigInteger approvedBond) {
+        String current = indexedStatus.get(proposal);
+        if (current == null) {
+            return;
+        }
+        remove(proposal, oldSponsor, current);
+        ArrayDBUtils.addIndexedItem(getProposals(newSponsor, current), position, proposal);
+        addBond(proposal, oldSponsor, token, approvedBond.negate());
+        addBond(proposal, newSponsor, token, approvedBond);
+    }
+
+    // nothing to remove when the proposal was never placed in a list
+    private void remove(String proposal, Address sponsor, String status) {
+        if (position.get(proposal) != null) {
+            ArrayDBUtils.removeIndexedItem(getProposals(sponsor, status), position, proposal);
+        }
+    }
+
+    public void addBond(String proposal, Address sponsor, String token, BigInteger amount) {
+        if (indexedStatus.get(proposal) == null) {
+            return;
+        }
+        DictDB<String, BigInteger> bonds = approvedBonds.at(sponsor);
+        bonds.set(token, bonds.getOrDefault(token, BigInteger.ZERO).add(amount));
+    }
+}
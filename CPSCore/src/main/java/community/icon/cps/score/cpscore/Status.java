@@ -1,7 +1,9 @@
 package community.icon.cps.score.cpscore;
 
+import community.icon.cps.score.cpscore.utils.ArrayDBUtils;
 import score.ArrayDB;
 import score.Context;
+import score.DictDB;
 
 import java.util.Map;
 
@@ -12,6 +14,8 @@ import static community.icon.cps.score.cpscore.utils.Constants.DISQUALIFIED;
 import static community.icon.cps.score.cpscore.utils.Constants.PAUSED;
 import static community.icon.cps.score.cpscore.utils.Constants.PENDING;
 import static community.icon.cps.score.cpscore.utils.Constants.PROGRESS_REPORT_REJECTED;
+import static community.icon.cps.score.cpscore.utils.Constants.PROGRESS_REPORT_STATUS_INDEX;
+import static community.icon.cps.score.cpscore.utils.Constants.PROPOSAL_STATUS_INDEX;
 import static community.icon.cps.score.cpscore.utils.Constants.REJECTED;
 import static community.icon.cps.score.cpscore.utils.Constants.SPONSOR_PENDING;
 import static community.icon.cps.score.cpscore.utils.Constants.WAITING;
@@ -43,4 +47,35 @@ public class Status {
             PROGRESS_REPORT_REJECTED, progressRejected
     );
 
+    // 1 based position of a key in the list of its current status
+    private final DictDB<String, Integer> proposalStatusIndex = Context.newDictDB(PROPOSAL_STATUS_INDEX, Integer.class);
+    private final DictDB<String, Integer> progressReportStatusIndex = Context.newDictDB(PROGRESS_REPORT_STATUS_INDEX, Integer.class);
+
+    public void addProposal(String proposal, String status) {
+        ArrayDBUtils.addIndexedItem(proposalStatus.get(status), proposalStatusIndex, proposal);
+    }
+
+    public void moveProposal(String proposal, String currentStatus, String status) {
+        ArrayDBUtils.removeIndexedItem(proposalStatus.get(currentStatus), proposalStatusIndex, proposal);
+        ArrayDBUtils.addIndexedItem(proposalStatus.get(status), proposalStatusIndex, proposal);
+    }
+
+    public void addProgressReport(String progressReport, String status) {
+        ArrayDBUtils.addIndexedItem(progressReportStatus.get(status), progressReportStatusIndex, progressReport);
+    }
+
+    public void moveProgressReport(String progressReport, String currentStatus, String status) {
+        ArrayDBUtils.removeIndexedItem(progressReportStatus.get(currentStatus), progressReportStatusIndex, progressReport);
+        ArrayDBUtils.addIndexedItem(progressReportStatus.get(status), progressReportStatusIndex, progressReport);
+    }
+
+    // 1 based position of the proposal in the list of the status, 0 when it is not there
+    public int getProposalPosition(String proposal, String status) {
+        return ArrayDBUtils.indexOf(proposalStatus.get(status), proposalStatusIndex, proposal);
+    }
+
+    public int getProgressReportPosition(String progressReport, String status) {
+        return ArrayDBUtils.indexOf(progressReportStatus.get(status), progressReportStatusIndex, progressReport);
+    }
+
 }
@@ -0,0 +1,84 @@
+package community.icon.cps.score.cpscore;
+
+import score.Address;
+import score.BranchDB;
+import score.Context;
+import score.DictDB;
+
+import java.math.BigInteger;
+
+import static community.icon.cps.score.cpscore.utils.Constants.SIGNED_VOTE_NONCE;
+import static community.icon.cps.score.cpscore.utils.Constants.TAG;
+import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.MilestoneVoteAttributes;
+import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.ProgressReportVote;
+import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.ProposalVote;
+import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.SignedVoteBatch;
+
+/***
+ Vote batches signed by a P-Rep and relayed by anyone. The signed message covers this score, the period count,
+ the nonce and every vote, each string length prefixed so that no two batches encode alike. The nonce starts at
+ zero in every period and a batch is accepted only with the next one.
+ ***/
+public class VoteSignatures {
+    private static final String SIGNATURE_ALGORITHM = "ecdsa-secp256k1";
+    private final BranchDB<Integer, DictDB<Address, BigInteger>> nonces = Context.newBranchDB(SIGNED_VOTE_NONCE, BigInteger.class);
+
+    public BigInteger getNonce(int period, Address voter) {
+        return nonces.at(period).getOrDefault(voter, BigInteger.ZERO);
+    }
+
+    public void verify(int period, SignedVoteBatch batch) {
+        Context.require(batch.voter != null && batch.signature != null, TAG + ": Voter and signature required.");
+        BigInteger nonce = getNonce(period, batch.voter);
+        Context.require(nonce.equals(batch.nonce), TAG + ": Invalid nonce for " + batch.voter + ", expected " + nonce);
+
+        byte[] messageHash = Context.hash("sha3-256", message(period, batch));
+        byte[] publicKey = Context.recoverKey(SIGNATURE_ALGORITHM, messageHash, batch.signature, false);
+        Context.require(batch.voter.equals(Context.getAddressFromKey(publicKey)),
+                TAG + ": Votes are not signed by " + batch.voter);
+        nonces.at(period).set(batch.voter, nonce.add(BigInteger.ONE));
+    }
+
+    public static byte[] message(int period, SignedVoteBatch batch) {
+        StringBuilder message = new StringBuilder();
+        append(message, Context.getAddress().toString());
+        append(message, String.valueOf(period));
+        append(message, batch.voter.toString());
+        append(message, batch.nonce.toString());
+
+        ProposalVote[] proposalVotes = batch.proposalVotes == null ? new ProposalVote[0] : batch.proposalVotes;
+        append(message, String.valueOf(proposalVotes.length));
+        for (ProposalVote vote : proposalVotes) {
+            append(message, vote.ipfsKey);
+            append(message, vote.vote);
+            append(message, vote.voteReason);
+            append(message, String.valueOf(vote.voteChange));
+        }
+
+        ProgressReportVote[] reportVotes = batch.progressReportVotes == null ? new ProgressReportVote[0] :
+                batch.progressReportVotes;
+        append(message, String.valueOf(reportVotes.length));
+        for (ProgressReportVote vote : reportVotes) {
+            append(message, vote.reportKey);
+            append(message, vote.voteReason);
+            append(message, vote.budgetAdjustmentVote);
+            append(message, String.valueOf(vote.voteChange));
+            MilestoneVoteAttributes[] milestoneVotes = vote.votes == null ? new MilestoneVoteAttributes[0] : vote.votes;
+            append(message, String.valueOf(milestoneVotes.length));
+            for (MilestoneVoteAttributes milestoneVote : milestoneVotes) {
+                append(message, String.valueOf(milestoneVote.id));
+                append(message, milestoneVote.vote);
+            }
+        }
+        return message.toString().getBytes();
+    }
+
+    // a missing string is encoded apart from an empty one
+    private static void append(StringBuilder message, String value) {
+        if (value == null) {
+            message.append("-;");
+            return;
+        }
+        message.append(value.length()).append(':').append(value);
+    }
+}
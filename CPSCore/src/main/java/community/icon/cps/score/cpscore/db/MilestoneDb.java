@@ -2,6 +2,7 @@ package community.icon.cps.score.cpscore.db;
 
 import community.icon.cps.score.lib.interfaces.CPSCoreInterface;
 import score.*;
+import scorex.util.HashMap;
 
 import java.math.BigInteger;
 import java.util.Map;
@@ -9,44 +10,180 @@ import java.util.Map;
 import static community.icon.cps.score.cpscore.utils.Constants.*;
 
 public class MilestoneDb {
-    public static final BranchDB<String, VarDB<Integer>> id = Context.newBranchDB(MILESTONE_ID, Integer.class);
-    public static final BranchDB<String, VarDB<String>> progressReportHash = Context.newBranchDB(REPORT_HASH, String.class);
-    public static final BranchDB<String, VarDB<Integer>> status = Context.newBranchDB(STATUS, Integer.class);
+    private static final BranchDB<String, VarDB<Integer>> id = Context.newBranchDB(MILESTONE_ID, Integer.class);
+    private static final BranchDB<String, VarDB<String>> progressReportHash = Context.newBranchDB(REPORT_HASH, String.class);
+    private static final BranchDB<String, VarDB<Integer>> status = Context.newBranchDB(STATUS, Integer.class);
     public static final BranchDB<String, VarDB<BigInteger>> approvedVotes = Context.newBranchDB(APPROVED_VOTES, BigInteger.class);
     public static final BranchDB<String, VarDB<BigInteger>> rejectedVotes = Context.newBranchDB(REJECTED_VOTES, BigInteger.class);
     public static final BranchDB<String, ArrayDB<Address>> votersList = Context.newBranchDB(VOTERS_LIST, Address.class);
     public static final BranchDB<String, ArrayDB<Address>> approveVoters = Context.newBranchDB(APPROVE_VOTERS, Address.class);
     public static final BranchDB<String, ArrayDB<Address>> rejectVoters = Context.newBranchDB(REJECT_VOTERS, Address.class);
-    public static final BranchDB<String, VarDB<Integer>> completionPeriod = Context.newBranchDB(COMPLETION_PERIOD, Integer.class);
-    public static final BranchDB<String, VarDB<BigInteger>> budget = Context.newBranchDB(BUDGET, BigInteger.class);
-    public static final BranchDB<String, VarDB<Boolean>> extensionFlag = Context.newBranchDB(EXTENSION_FLAG, Boolean.class);
+    private static final BranchDB<String, VarDB<Integer>> completionPeriod = Context.newBranchDB(COMPLETION_PERIOD, Integer.class);
+    private static final BranchDB<String, VarDB<BigInteger>> budget = Context.newBranchDB(BUDGET, BigInteger.class);
+    private static final BranchDB<String, VarDB<Boolean>> extensionFlag = Context.newBranchDB(EXTENSION_FLAG, Boolean.class);
 
     public static final BranchDB<String, BranchDB<Address, DictDB<String, Integer>>> votersListIndices = Context.newBranchDB(VOTERS_LIST_INDEXES, Integer.class);
+    // votes, tallies and voter indices are kept under the vote round of the milestone, see votePrefix
+    private static final BranchDB<String, VarDB<Integer>> voteRound = Context.newBranchDB(MILESTONE_VOTE_ROUND, Integer.class);
+
+    // milestones stored before the record existed are read from the single field slots above
+    private static final BranchDB<String, VarDB<MilestoneRecord>> milestoneRecord = Context.newBranchDB(MILESTONE_RECORD, MilestoneRecord.class);
 
     public static void addDataToMilestoneDb(CPSCoreInterface.MilestonesAttributes milestoneData, String prefix) {
-        id.at(prefix).set(milestoneData.id);
+        MilestoneRecord record = getMilestoneRecord(prefix);
+        record.id = milestoneData.id;
+        record.completionPeriod = milestoneData.completionPeriod;
+        record.budget = milestoneData.budget;
+        setMilestoneRecord(prefix, record);
         approvedVotes.at(prefix).set(BigInteger.ZERO);
         rejectedVotes.at(prefix).set(BigInteger.ZERO);
-        completionPeriod.at(prefix).set(milestoneData.completionPeriod);
-        budget.at(prefix).set(milestoneData.budget);
+    }
+
+    // round 0 is the layout from before rounds existed, the voting state sits under the milestone prefix itself
+    public static String votePrefix(String prefix) {
+        int round = voteRound.at(prefix).getOrDefault(0);
+        return round == 0 ? prefix : prefix + "|" + MILESTONE_VOTE_ROUND + "|" + round;
+    }
+
+    // starts a new vote round, the voting state of the previous rounds is left in place but no longer read
+    public static void resetVotes(String prefix) {
+        voteRound.at(prefix).set(voteRound.at(prefix).getOrDefault(0) + 1);
+        String votes = votePrefix(prefix);
+        approvedVotes.at(votes).set(BigInteger.ZERO);
+        rejectedVotes.at(votes).set(BigInteger.ZERO);
+    }
+
+    public static MilestoneRecord getMilestoneRecord(String prefix) {
+        MilestoneRecord record = milestoneRecord.at(prefix).get();
+        if (record != null) {
+            return record;
+        }
+
+        record = new MilestoneRecord();
+        record.id = id.at(prefix).getOrDefault(0);
+        record.budget = budget.at(prefix).getOrDefault(BigInteger.ZERO);
+        record.completionPeriod = completionPeriod.at(prefix).getOrDefault(0);
+        record.extensionFlag = extensionFlag.at(prefix).getOrDefault(false);
+        record.status = status.at(prefix).getOrDefault(0);
+        record.progressReportHash = progressReportHash.at(prefix).getOrDefault("");
+        return record;
+    }
+
+    public static void setMilestoneRecord(String prefix, MilestoneRecord record) {
+        boolean legacy = milestoneRecord.at(prefix).get() == null;
+        milestoneRecord.at(prefix).set(record);
+        if (legacy) {
+            id.at(prefix).set(null);
+            budget.at(prefix).set(null);
+            completionPeriod.at(prefix).set(null);
+            extensionFlag.at(prefix).set(null);
+            status.at(prefix).set(null);
+            progressReportHash.at(prefix).set(null);
+        }
+    }
 
+    public static void setStatus(String prefix, int milestoneStatus) {
+        MilestoneRecord record = getMilestoneRecord(prefix);
+        record.status = milestoneStatus;
+        setMilestoneRecord(prefix, record);
     }
 
     public static Map<String, Object> getDataFromMilestoneDB(String prefix) {
-        String reportHash = progressReportHash.at(prefix).getOrDefault("");
+        return getDataFromMilestoneDB(prefix, new HashMap<>());
+    }
+
+    // reportTotals holds the vote totals of the progress reports already read in the same call, keyed by report hash
+    public static Map<String, Object> getDataFromMilestoneDB(String prefix, Map<String, Map<String, Object>> reportTotals) {
+        MilestoneRecord record = getMilestoneRecord(prefix);
+        Map<String, Object> totals = getReportTotals(record.progressReportHash, reportTotals);
+        String votes = votePrefix(prefix);
         return Map.ofEntries(
-                Map.entry(MILESTONE_ID, id.at(prefix).get()),
-                Map.entry(STATUS, status.at(prefix).getOrDefault(0)),
-                Map.entry(COMPLETION_PERIOD, completionPeriod.at(prefix).getOrDefault(0)),
-                Map.entry(BUDGET, budget.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(REPORT_HASH, progressReportHash.at(prefix).getOrDefault("")),
-                Map.entry(TOTAL_VOTES, ProgressReportDataDb.totalVotes.at(progressReportPrefix(reportHash)).getOrDefault(BigInteger.ZERO)),
-                Map.entry(APPROVED_VOTES, approvedVotes.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(REJECTED_VOTES, rejectedVotes.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(TOTAL_VOTERS, ProgressReportDataDb.totalVoters.at(progressReportPrefix(reportHash)).getOrDefault(0)),
-                Map.entry(APPROVE_VOTERS, approveVoters.at(prefix).size()),
-                Map.entry(REJECT_VOTERS, rejectVoters.at(prefix).size()),
-                Map.entry(EXTENSION_FLAG, extensionFlag.at(prefix).getOrDefault(false)));
+                Map.entry(MILESTONE_ID, record.id),
+                Map.entry(STATUS, record.status),
+                Map.entry(COMPLETION_PERIOD, record.completionPeriod),
+                Map.entry(BUDGET, record.budget),
+                Map.entry(REPORT_HASH, record.progressReportHash),
+                Map.entry(TOTAL_VOTES, totals.get(TOTAL_VOTES)),
+                Map.entry(APPROVED_VOTES, approvedVotes.at(votes).getOrDefault(BigInteger.ZERO)),
+                Map.entry(REJECTED_VOTES, rejectedVotes.at(votes).getOrDefault(BigInteger.ZERO)),
+                Map.entry(TOTAL_VOTERS, totals.get(TOTAL_VOTERS)),
+                Map.entry(APPROVE_VOTERS, approveVoters.at(votes).size()),
+                Map.entry(REJECT_VOTERS, rejectVoters.at(votes).size()),
+                Map.entry(EXTENSION_FLAG, record.extensionFlag));
+    }
+
+    // only the slots behind the requested fields are read, all fields are returned when none are given
+    public static Map<String, Object> getDataFromMilestoneDB(String prefix, String[] fields) {
+        return getDataFromMilestoneDB(prefix, fields, new HashMap<>());
+    }
+
+    public static Map<String, Object> getDataFromMilestoneDB(String prefix, String[] fields,
+                                                             Map<String, Map<String, Object>> reportTotals) {
+        if (fields == null || fields.length == 0) {
+            return getDataFromMilestoneDB(prefix, reportTotals);
+        }
+        Map<String, Object> data = new HashMap<>();
+        MilestoneRecord record = null;
+        for (String field : fields) {
+            switch (field) {
+                case APPROVED_VOTES:
+                    data.put(field, approvedVotes.at(votePrefix(prefix)).getOrDefault(BigInteger.ZERO));
+                    break;
+                case REJECTED_VOTES:
+                    data.put(field, rejectedVotes.at(votePrefix(prefix)).getOrDefault(BigInteger.ZERO));
+                    break;
+                case APPROVE_VOTERS:
+                    data.put(field, approveVoters.at(votePrefix(prefix)).size());
+                    break;
+                case REJECT_VOTERS:
+                    data.put(field, rejectVoters.at(votePrefix(prefix)).size());
+                    break;
+                case TOTAL_VOTES:
+                case TOTAL_VOTERS:
+                    if (record == null) {
+                        record = getMilestoneRecord(prefix);
+                    }
+                    data.put(field, getReportTotals(record.progressReportHash, reportTotals).get(field));
+                    break;
+                default:
+                    if (record == null) {
+                        record = getMilestoneRecord(prefix);
+                    }
+                    data.put(field, getRecordField(record, field));
+            }
+        }
+        return data;
+    }
+
+    private static Map<String, Object> getReportTotals(String reportHash, Map<String, Map<String, Object>> reportTotals) {
+        Map<String, Object> totals = reportTotals.get(reportHash);
+        if (totals == null) {
+            String reportPrefix = progressReportPrefix(reportHash);
+            totals = Map.of(TOTAL_VOTES, ProgressReportDataDb.totalVotes.at(reportPrefix).getOrDefault(BigInteger.ZERO),
+                    TOTAL_VOTERS, ProgressReportDataDb.totalVoters.at(reportPrefix).getOrDefault(0));
+            reportTotals.put(reportHash, totals);
+        }
+        return totals;
+    }
+
+    private static Object getRecordField(MilestoneRecord record, String field) {
+        switch (field) {
+            case MILESTONE_ID:
+                return record.id;
+            case STATUS:
+                return record.status;
+            case COMPLETION_PERIOD:
+                return record.completionPeriod;
+            case BUDGET:
+                return record.budget;
+            case REPORT_HASH:
+                return record.progressReportHash;
+            case EXTENSION_FLAG:
+                return record.extensionFlag;
+            default:
+                Context.revert(TAG + ": " + field + " is not a milestone field.");
+                return null;
+        }
     }
 
     public static String progressReportPrefix(String progressHash) {
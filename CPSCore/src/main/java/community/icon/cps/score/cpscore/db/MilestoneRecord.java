@@ -0,0 +1,42 @@
+package community.icon.cps.score.cpscore.db;
+
+import score.ObjectReader;
+import score.ObjectWriter;
+
+import java.math.BigInteger;
+
+/***
+ Fields of a milestone stored in a single slot. Vote tallies and voter lists stay in their own slots in MilestoneDb.
+ ***/
+public class MilestoneRecord {
+    public int id;
+    public BigInteger budget;
+    public int completionPeriod;
+    public boolean extensionFlag;
+    public int status;
+    public String progressReportHash;
+
+    public static void writeObject(ObjectWriter w, MilestoneRecord record) {
+        w.beginList(6);
+        w.write(record.id);
+        w.write(record.budget);
+        w.write(record.completionPeriod);
+        w.write(record.extensionFlag);
+        w.write(record.status);
+        w.write(record.progressReportHash);
+        w.end();
+    }
+
+    public static MilestoneRecord readObject(ObjectReader r) {
+        MilestoneRecord record = new MilestoneRecord();
+        r.beginList();
+        record.id = r.readInt();
+        record.budget = r.readBigInteger();
+        record.completionPeriod = r.readInt();
+        record.extensionFlag = r.readBoolean();
+        record.status = r.readInt();
+        record.progressReportHash = r.readString();
+        r.end();
+        return record;
+    }
+}
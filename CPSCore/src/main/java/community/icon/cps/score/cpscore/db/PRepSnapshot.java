@@ -0,0 +1,36 @@
+package community.icon.cps.score.cpscore.db;
+
+import score.ObjectReader;
+import score.ObjectWriter;
+
+import java.math.BigInteger;
+
+/***
+ Name, power and grade of a P-Rep as returned by getPRepTerm when the term snapshot was taken.
+ ***/
+public class PRepSnapshot {
+    public String name;
+    public BigInteger power;
+    public BigInteger grade;
+    public int snapshotId;
+
+    public static void writeObject(ObjectWriter w, PRepSnapshot snapshot) {
+        w.beginList(4);
+        w.writeNullable(snapshot.name);
+        w.write(snapshot.power);
+        w.writeNullable(snapshot.grade);
+        w.write(snapshot.snapshotId);
+        w.end();
+    }
+
+    public static PRepSnapshot readObject(ObjectReader r) {
+        PRepSnapshot snapshot = new PRepSnapshot();
+        r.beginList();
+        snapshot.name = r.readNullable(String.class);
+        snapshot.power = r.readBigInteger();
+        snapshot.grade = r.readNullable(BigInteger.class);
+        snapshot.snapshotId = r.readInt();
+        r.end();
+        return snapshot;
+    }
+}
@@ -2,6 +2,7 @@ package community.icon.cps.score.cpscore.db;
 
 import score.*;
 import scorex.util.ArrayList;
+import scorex.util.HashMap;
 
 import java.math.BigInteger;
 
@@ -13,7 +14,7 @@ import static community.icon.cps.score.cpscore.utils.Constants.*;
 import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.ProgressReportAttributes;
 
 public class ProgressReportDataDb {
-    public static final BranchDB<String, VarDB<String>> ipfsHash = Context.newBranchDB(IPFS_HASH, String.class);
+    private static final BranchDB<String, VarDB<String>> ipfsHash = Context.newBranchDB(IPFS_HASH, String.class);
     private static final BranchDB<String, VarDB<String>> reportHash = Context.newBranchDB(REPORT_HASH, String.class);
     private static final BranchDB<String, VarDB<String>> progressReportTitle = Context.newBranchDB(PROGRESS_REPORT_TITLE, String.class);
     public static final BranchDB<String, VarDB<BigInteger>> timestamp = Context.newBranchDB(TIMESTAMP, BigInteger.class);
@@ -39,21 +40,29 @@ public class ProgressReportDataDb {
     public static final BranchDB<String, ArrayDB<Address>> budgetApproveVoters = Context.newBranchDB(BUDGET_APPROVE_VOTERS, Address.class);
     public static final BranchDB<String, ArrayDB<Address>> budgetRejectVoters = Context.newBranchDB(BUDGET_REJECT_VOTERS, Address.class);
     public static final BranchDB<String, VarDB<String>> budgetAdjustmentStatus = Context.newBranchDB(BUDGET_ADJUSTMENT_STATUS, String.class);
-    public static final BranchDB<String, VarDB<String>> ipfsLink = Context.newBranchDB(IPFS_LINK, String.class);
+    private static final BranchDB<String, VarDB<String>> ipfsLink = Context.newBranchDB(IPFS_LINK, String.class);
     public static final BranchDB<String, BranchDB<Address, DictDB<String, Integer>>> budgetVotersListIndices = Context.newBranchDB(BUDGET_VOTERS_LIST_INDICES, Integer.class);
     public static final BranchDB<String,ArrayDB<Integer>> milestoneSubmitted = Context.newBranchDB(MILESTONE_SUBMITTED_COUNT,Integer.class);
     public static final BranchDB<String,DictDB<Address,Integer>> voteChange = Context.newBranchDB(VOTE_CHANGE,Integer.class);
 
+    // fields fixed at submission, progress reports stored before it existed are read from the single field slots
+    private static final BranchDB<String, VarDB<ProgressReportRecord>> progressReportRecord = Context.newBranchDB(PROGRESS_REPORT_RECORD, ProgressReportRecord.class);
+
     public static void addDataToProgressReportDB(ProgressReportAttributes progressData, String prefix) {
-        ipfsHash.at(prefix).set(progressData.ipfs_hash);
-        reportHash.at(prefix).set(progressData.report_hash);
-        progressReportTitle.at(prefix).set(progressData.progress_report_title);
+        ProgressReportRecord record = new ProgressReportRecord();
+        record.ipfsHash = progressData.ipfs_hash;
+        record.reportHash = progressData.report_hash;
+        record.progressReportTitle = progressData.progress_report_title;
+        record.additionalBudget = progressData.additional_budget == null ? BigInteger.ZERO :
+                progressData.additional_budget.multiply(EXA);
+        record.additionalMonth = progressData.additional_month;
+        record.txHash = recordTxHash(Context.getTransactionHash());
+        record.budgetAdjustment = Boolean.TRUE.equals(progressData.budget_adjustment);
+        record.ipfsLink = progressData.ipfs_link;
+        progressReportRecord.at(prefix).set(record);
+
         timestamp.at(prefix).set(BigInteger.valueOf(Context.getBlockTimestamp()));
-        additionalBudget.at(prefix).set(progressData.additional_budget.multiply(EXA));
-        additionalMonth.at(prefix).set(progressData.additional_month);
         status.at(prefix).set(WAITING);
-        txHash.at(prefix).set(recordTxHash(Context.getTransactionHash()));
-        budgetAdjustment.at(prefix).set(progressData.budget_adjustment);
         budgetAdjustmentStatus.at(prefix).set("N/A");
         totalVotes.at(prefix).set(BigInteger.ZERO);
         totalVoters.at(prefix).set(0);
@@ -61,25 +70,142 @@ public class ProgressReportDataDb {
         rejectedVotes.at(prefix).set(BigInteger.ZERO);
         budgetApprovedVotes.at(prefix).set(BigInteger.ZERO);
         budgetRejectedVotes.at(prefix).set(BigInteger.ZERO);
-        ipfsLink.at(prefix).set(progressData.ipfs_link);
+    }
+
+    public static ProgressReportRecord getProgressReportRecord(String prefix) {
+        ProgressReportRecord record = progressReportRecord.at(prefix).get();
+        if (record != null) {
+            return record;
+        }
+
+        record = new ProgressReportRecord();
+        record.ipfsHash = ipfsHash.at(prefix).getOrDefault("");
+        record.reportHash = reportHash.at(prefix).getOrDefault("");
+        record.progressReportTitle = progressReportTitle.at(prefix).getOrDefault("");
+        record.additionalBudget = additionalBudget.at(prefix).getOrDefault(BigInteger.ZERO);
+        record.additionalMonth = additionalMonth.at(prefix).getOrDefault(0);
+        record.txHash = txHash.at(prefix).getOrDefault("");
+        record.budgetAdjustment = budgetAdjustment.at(prefix).getOrDefault(false);
+        record.ipfsLink = ipfsLink.at(prefix).getOrDefault("");
+        return record;
+    }
+
+    public static void upgradeProgressReportRecord(String prefix) {
+        if (progressReportRecord.at(prefix).get() == null && ipfsHash.at(prefix).get() != null) {
+            progressReportRecord.at(prefix).set(getProgressReportRecord(prefix));
+            ipfsHash.at(prefix).set(null);
+            reportHash.at(prefix).set(null);
+            progressReportTitle.at(prefix).set(null);
+            additionalBudget.at(prefix).set(null);
+            additionalMonth.at(prefix).set(null);
+            txHash.at(prefix).set(null);
+            budgetAdjustment.at(prefix).set(null);
+            ipfsLink.at(prefix).set(null);
+        }
     }
 
     public static Map<String, Object> getDataFromProgressReportDB(String prefix) {
-        String proposalHash = ipfsHash.at(prefix).getOrDefault("");
+        return getDataFromProgressReportDB(prefix, new HashMap<>());
+    }
+
+    // proposalRecords holds the proposal records already read in the same call, keyed by proposal hash
+    public static Map<String, Object> getDataFromProgressReportDB(String prefix,
+                                                                  Map<String, ProposalRecord> proposalRecords) {
+        ProgressReportRecord record = getProgressReportRecord(prefix);
+        String proposalHash = record.ipfsHash;
+        ProposalRecord proposalRecord = getProposalRecord(proposalHash, proposalRecords);
         return Map.ofEntries(Map.entry(IPFS_HASH, proposalHash),
-                Map.entry(REPORT_HASH, reportHash.at(prefix).getOrDefault("")),
-                Map.entry(PROGRESS_REPORT_TITLE, progressReportTitle.at(prefix).getOrDefault("")),
+                Map.entry(REPORT_HASH, record.reportHash),
+                Map.entry(PROGRESS_REPORT_TITLE, record.progressReportTitle),
                 Map.entry(TIMESTAMP, timestamp.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(ADDITIONAL_BUDGET, additionalBudget.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(ADDITIONAL_DURATION, additionalMonth.at(prefix).getOrDefault(0)),
+                Map.entry(ADDITIONAL_BUDGET, record.additionalBudget),
+                Map.entry(ADDITIONAL_DURATION, record.additionalMonth),
                 Map.entry(STATUS, status.at(prefix).getOrDefault("")),
-                Map.entry(TX_HASH, txHash.at(prefix).getOrDefault("")),
-                Map.entry(IPFS_LINK, ipfsLink.at(prefix).getOrDefault("")),
-                Map.entry(BUDGET_ADJUSTMENT, budgetAdjustment.at(prefix).getOrDefault(false)),
-                Map.entry(PROJECT_TITLE, ProposalDataDb.projectTitle.at(proposalPrefix(proposalHash)).getOrDefault("")),
+                Map.entry(TX_HASH, record.txHash),
+                Map.entry(IPFS_LINK, record.ipfsLink),
+                Map.entry(BUDGET_ADJUSTMENT, record.budgetAdjustment),
+                Map.entry(PROJECT_TITLE, proposalRecord.projectTitle),
                 Map.entry(MILESTONE_SUBMITTED_COUNT, milestoneSubmitted.at(prefix).size()),
-                Map.entry(CONTRIBUTOR_ADDRESS, ProposalDataDb.contributorAddress.at(proposalPrefix(proposalHash)).get()));
+                Map.entry(CONTRIBUTOR_ADDRESS, proposalRecord.contributorAddress));
+    }
+    // only the slots behind the requested fields are read, all fields are returned when none are given
+    public static Map<String, Object> getDataFromProgressReportDB(String prefix, String[] fields) {
+        return getDataFromProgressReportDB(prefix, fields, new HashMap<>());
     }
+
+    public static Map<String, Object> getDataFromProgressReportDB(String prefix, String[] fields,
+                                                                  Map<String, ProposalRecord> proposalRecords) {
+        if (fields == null || fields.length == 0) {
+            return getDataFromProgressReportDB(prefix, proposalRecords);
+        }
+        Map<String, Object> data = new HashMap<>();
+        ProgressReportRecord record = null;
+        ProposalRecord proposalRecord = null;
+        for (String field : fields) {
+            switch (field) {
+                case TIMESTAMP:
+                    data.put(field, timestamp.at(prefix).getOrDefault(BigInteger.ZERO));
+                    break;
+                case STATUS:
+                    data.put(field, status.at(prefix).getOrDefault(""));
+                    break;
+                case MILESTONE_SUBMITTED_COUNT:
+                    data.put(field, milestoneSubmitted.at(prefix).size());
+                    break;
+                case PROJECT_TITLE:
+                case CONTRIBUTOR_ADDRESS:
+                    if (record == null) {
+                        record = getProgressReportRecord(prefix);
+                    }
+                    if (proposalRecord == null) {
+                        proposalRecord = getProposalRecord(record.ipfsHash, proposalRecords);
+                    }
+                    data.put(field, field.equals(PROJECT_TITLE) ? proposalRecord.projectTitle :
+                            proposalRecord.contributorAddress);
+                    break;
+                default:
+                    if (record == null) {
+                        record = getProgressReportRecord(prefix);
+                    }
+                    data.put(field, getRecordField(record, field));
+            }
+        }
+        return data;
+    }
+
+    private static ProposalRecord getProposalRecord(String proposalHash, Map<String, ProposalRecord> proposalRecords) {
+        ProposalRecord proposalRecord = proposalRecords.get(proposalHash);
+        if (proposalRecord == null) {
+            proposalRecord = ProposalDataDb.getProposalRecord(proposalPrefix(proposalHash));
+            proposalRecords.put(proposalHash, proposalRecord);
+        }
+        return proposalRecord;
+    }
+
+    private static Object getRecordField(ProgressReportRecord record, String field) {
+        switch (field) {
+            case IPFS_HASH:
+                return record.ipfsHash;
+            case REPORT_HASH:
+                return record.reportHash;
+            case PROGRESS_REPORT_TITLE:
+                return record.progressReportTitle;
+            case ADDITIONAL_BUDGET:
+                return record.additionalBudget;
+            case ADDITIONAL_DURATION:
+                return record.additionalMonth;
+            case TX_HASH:
+                return record.txHash;
+            case IPFS_LINK:
+                return record.ipfsLink;
+            case BUDGET_ADJUSTMENT:
+                return record.budgetAdjustment;
+            default:
+                Context.revert(TAG + ": " + field + " is not a progress report field.");
+                return null;
+        }
+    }
+
     public static List<Integer> getMilestoneSubmittedFromProgressReportDB(String prefix){
         ArrayDB<Integer> milestoneSize = milestoneSubmitted.at(prefix);
         List<Integer> m = new ArrayList<>();
@@ -0,0 +1,56 @@
+package community.icon.cps.score.cpscore.db;
+
+import score.ObjectReader;
+import score.ObjectWriter;
+
+import java.math.BigInteger;
+
+/***
+ Fields of a progress report that are set on submission, stored in a single slot.
+ Status, timestamp and vote tallies stay in their own slots in ProgressReportDataDb.
+ ***/
+public class ProgressReportRecord {
+    public String ipfsHash;
+    public String reportHash;
+    public String progressReportTitle;
+    public BigInteger additionalBudget;
+    public int additionalMonth;
+    public String txHash;
+    public boolean budgetAdjustment;
+    public String ipfsLink;
+
+    public static void writeObject(ObjectWriter w, ProgressReportRecord record) {
+        w.beginList(8);
+        w.writeNullable(record.ipfsHash);
+        w.writeNullable(record.reportHash);
+        w.writeNullable(record.progressReportTitle);
+        w.writeNullable(record.additionalBudget);
+        w.write(record.additionalMonth);
+        w.writeNullable(record.txHash);
+        w.write(record.budgetAdjustment);
+        w.writeNullable(record.ipfsLink);
+        w.end();
+    }
+
+    public static ProgressReportRecord readObject(ObjectReader r) {
+        ProgressReportRecord record = new ProgressReportRecord();
+        r.beginList();
+        record.ipfsHash = readOptionalString(r);
+        record.reportHash = readOptionalString(r);
+        record.progressReportTitle = readOptionalString(r);
+        BigInteger additionalBudget = r.readNullable(BigInteger.class);
+        record.additionalBudget = additionalBudget == null ? BigInteger.ZERO : additionalBudget;
+        record.additionalMonth = r.readInt();
+        record.txHash = readOptionalString(r);
+        record.budgetAdjustment = r.readBoolean();
+        record.ipfsLink = readOptionalString(r);
+        r.end();
+        return record;
+    }
+
+    // optional fields were stored in nullable per-field slots before, so a missing value reads back as ""
+    private static String readOptionalString(ObjectReader r) {
+        String value = r.readNullable(String.class);
+        return value == null ? "" : value;
+    }
+}
@@ -1,6 +1,7 @@
 package community.icon.cps.score.cpscore.db;
 
 import score.*;
+import scorex.util.HashMap;
 
 import java.math.BigInteger;
 import java.util.Map;
@@ -10,17 +11,17 @@ import static community.icon.cps.score.cpscore.utils.Constants.*;
 import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.ProposalAttributes;
 
 public class ProposalDataDb {
-    public static final BranchDB<String, VarDB<String>> ipfsHash = Context.newBranchDB(IPFS_HASH, String.class);
-    public static final BranchDB<String, VarDB<String>> projectTitle = Context.newBranchDB(PROJECT_TITLE, String.class);
+    private static final BranchDB<String, VarDB<String>> ipfsHash = Context.newBranchDB(IPFS_HASH, String.class);
+    private static final BranchDB<String, VarDB<String>> projectTitle = Context.newBranchDB(PROJECT_TITLE, String.class);
     public static final BranchDB<String, VarDB<BigInteger>> timestamp = Context.newBranchDB(TIMESTAMP, BigInteger.class);
-    public static final BranchDB<String, VarDB<BigInteger>> totalBudget = Context.newBranchDB(TOTAL_BUDGET, BigInteger.class);
-    public static final BranchDB<String, VarDB<Integer>> projectDuration = Context.newBranchDB(PROJECT_DURATION, Integer.class);
-    public static final BranchDB<String, VarDB<Integer>> milestoneCount = Context.newBranchDB(MILESTONE_COUNT, Integer.class);
+    private static final BranchDB<String, VarDB<BigInteger>> totalBudget = Context.newBranchDB(TOTAL_BUDGET, BigInteger.class);
+    private static final BranchDB<String, VarDB<Integer>> projectDuration = Context.newBranchDB(PROJECT_DURATION, Integer.class);
+    private static final BranchDB<String, VarDB<Integer>> milestoneCount = Context.newBranchDB(MILESTONE_COUNT, Integer.class);
     public static final BranchDB<String, VarDB<Integer>> approvedReports = Context.newBranchDB(APPROVED_REPORTS, Integer.class);
-    public static final BranchDB<String, VarDB<Address>> sponsorAddress = Context.newBranchDB(SPONSOR_ADDRESS, Address.class);
-    public static final BranchDB<String, VarDB<Address>> contributorAddress = Context.newBranchDB(CONTRIBUTOR_ADDRESS, Address.class);
-    public static final BranchDB<String, VarDB<String>> token = Context.newBranchDB(TOKEN, String.class);
-    public static final BranchDB<String, VarDB<String>> ipfsLink = Context.newBranchDB(IPFS_LINK, String.class);
+    private static final BranchDB<String, VarDB<Address>> sponsorAddress = Context.newBranchDB(SPONSOR_ADDRESS, Address.class);
+    private static final BranchDB<String, VarDB<Address>> contributorAddress = Context.newBranchDB(CONTRIBUTOR_ADDRESS, Address.class);
+    private static final BranchDB<String, VarDB<String>> token = Context.newBranchDB(TOKEN, String.class);
+    private static final BranchDB<String, VarDB<String>> ipfsLink = Context.newBranchDB(IPFS_LINK, String.class);
     public static final BranchDB<String, VarDB<String>> status = Context.newBranchDB(STATUS, String.class);
     private static final BranchDB<String, VarDB<String>> txHash = Context.newBranchDB(TX_HASH, String.class);
     public static final BranchDB<String, VarDB<Integer>> percentageCompleted = Context.newBranchDB(PERCENTAGE_COMPLETED, Integer.class);
@@ -39,24 +40,54 @@ public class ProposalDataDb {
     public static final BranchDB<String, ArrayDB<Address>> rejectVoters = Context.newBranchDB(REJECT_VOTERS, Address.class);
     public static final BranchDB<String, ArrayDB<Address>> abstainVoters = Context.newBranchDB(ABSTAIN_VOTERS, Address.class);
     public static final BranchDB<String, BranchDB<Address, DictDB<String, Integer>>> votersListIndex = Context.newBranchDB(VOTERS_LIST_INDEXES, Integer.class);
+    // whether the approvals meet the majority, updated with every vote of the round
+    public static final BranchDB<String, VarDB<Boolean>> majorityApproved = Context.newBranchDB(MAJORITY_APPROVED, Boolean.class);
+    // votes, tallies and voter indices are kept under the vote round of the proposal, see votePrefix
+    private static final BranchDB<String, VarDB<Integer>> voteRound = Context.newBranchDB(PROPOSAL_VOTE_ROUND, Integer.class);
     public static final BranchDB<String, ArrayDB<String>> progressReports = Context.newBranchDB(PROGRESS_REPORTS, String.class);
     public static final BranchDB<String, VarDB<Boolean>> budgetAdjustment = Context.newBranchDB(BUDGET_ADJUSTMENT, Boolean.class);
     public static final BranchDB<String, VarDB<Boolean>> submitProgressReport = Context.newBranchDB(SUBMIT_PROGRESS_REPORT, Boolean.class);
-    public static final BranchDB<String, VarDB<Boolean>> isMilestone = Context.newBranchDB(IS_MILESTONE, Boolean.class);
+    private static final BranchDB<String, VarDB<Boolean>> isMilestone = Context.newBranchDB(IS_MILESTONE, Boolean.class);
     public static final BranchDB<String, VarDB<Integer>> proposalPeriod = Context.newBranchDB(PROPOSAL_PERIOD, Integer.class);
     public static final BranchDB<String, ArrayDB<Integer>> milestoneIds = Context.newBranchDB("milestoneIds", Integer.class);
 
+    // fields fixed at submission, packed in one slot. Proposals stored before it existed are read
+    // from the single field slots above until their record is first written.
+    private static final BranchDB<String, VarDB<ProposalRecord>> proposalRecord = Context.newBranchDB(PROPOSAL_RECORD, ProposalRecord.class);
+
+    // round 0 is the layout from before rounds existed, the voting state sits under the proposal prefix itself
+    public static String votePrefix(String prefix) {
+        int round = voteRound.at(prefix).getOrDefault(0);
+        return round == 0 ? prefix : prefix + "|" + PROPOSAL_VOTE_ROUND + "|" + round;
+    }
+
+    // starts a new vote round, the voting state of the previous rounds is left in place but no longer read
+    public static void resetVotes(String prefix) {
+        voteRound.at(prefix).set(voteRound.at(prefix).getOrDefault(0) + 1);
+        String votes = votePrefix(prefix);
+        totalVotes.at(votes).set(BigInteger.ZERO);
+        totalVoters.at(votes).set(0);
+        approvedVotes.at(votes).set(BigInteger.ZERO);
+        rejectedVotes.at(votes).set(BigInteger.ZERO);
+    }
+
     public static void addDataToProposalDB(ProposalAttributes proposalData, String prefix) {
-        ipfsHash.at(prefix).set(proposalData.ipfs_hash);
-        projectTitle.at(prefix).set(proposalData.project_title);
+        ProposalRecord record = new ProposalRecord();
+        record.ipfsHash = proposalData.ipfs_hash;
+        record.projectTitle = proposalData.project_title;
+        record.totalBudget = proposalData.total_budget.multiply(EXA);
+        record.projectDuration = proposalData.project_duration;
+        record.sponsorAddress = proposalData.sponsor_address;
+        record.contributorAddress = Context.getCaller();
+        record.token = proposalData.token;
+        record.ipfsLink = proposalData.ipfs_link;
+        record.txHash = recordTxHash(Context.getTransactionHash());
+        record.milestoneCount = proposalData.milestoneCount;
+        record.isMilestone = true;
+        proposalRecord.at(prefix).set(record);
+
         timestamp.at(prefix).set(BigInteger.valueOf(Context.getBlockTimestamp()));
-        totalBudget.at(prefix).set(proposalData.total_budget.multiply(EXA));
-        projectDuration.at(prefix).set(proposalData.project_duration);
-        sponsorAddress.at(prefix).set(proposalData.sponsor_address);
-        ipfsLink.at(prefix).set(proposalData.ipfs_link);
-        contributorAddress.at(prefix).set(Context.getCaller());
         status.at(prefix).set(SPONSOR_PENDING);
-        txHash.at(prefix).set(recordTxHash(Context.getTransactionHash()));
         percentageCompleted.at(prefix).set(0);
         totalVotes.at(prefix).set(BigInteger.ZERO);
         totalVoters.at(prefix).set(0);
@@ -65,10 +96,75 @@ public class ProposalDataDb {
         approvedReports.at(prefix).set(0);
         budgetAdjustment.at(prefix).set(false);
         submitProgressReport.at(prefix).set(false);
-        token.at(prefix).set(proposalData.token);
-        milestoneCount.at(prefix).set(proposalData.milestoneCount);
-        isMilestone.at(prefix).set(true);
+    }
+
+    public static ProposalRecord getProposalRecord(String prefix) {
+        ProposalRecord record = proposalRecord.at(prefix).get();
+        if (record != null) {
+            return record;
+        }
+
+        record = new ProposalRecord();
+        record.ipfsHash = ipfsHash.at(prefix).getOrDefault("");
+        record.projectTitle = projectTitle.at(prefix).getOrDefault("");
+        record.totalBudget = totalBudget.at(prefix).getOrDefault(BigInteger.ZERO);
+        record.projectDuration = projectDuration.at(prefix).getOrDefault(0);
+        record.sponsorAddress = sponsorAddress.at(prefix).get();
+        record.contributorAddress = contributorAddress.at(prefix).get();
+        record.token = token.at(prefix).getOrDefault("");
+        record.ipfsLink = ipfsLink.at(prefix).getOrDefault("");
+        record.txHash = txHash.at(prefix).getOrDefault("");
+        record.milestoneCount = milestoneCount.at(prefix).getOrDefault(0);
+        record.isMilestone = isMilestone.at(prefix).getOrDefault(false);
+        return record;
+    }
+
+    public static void setProposalRecord(String prefix, ProposalRecord record) {
+        boolean legacy = proposalRecord.at(prefix).get() == null;
+        proposalRecord.at(prefix).set(record);
+        if (legacy) {
+            ipfsHash.at(prefix).set(null);
+            projectTitle.at(prefix).set(null);
+            totalBudget.at(prefix).set(null);
+            projectDuration.at(prefix).set(null);
+            sponsorAddress.at(prefix).set(null);
+            contributorAddress.at(prefix).set(null);
+            token.at(prefix).set(null);
+            ipfsLink.at(prefix).set(null);
+            txHash.at(prefix).set(null);
+            milestoneCount.at(prefix).set(null);
+            isMilestone.at(prefix).set(null);
+        }
+    }
 
+    public static void upgradeProposalRecord(String prefix) {
+        if (proposalRecord.at(prefix).get() == null && ipfsHash.at(prefix).get() != null) {
+            setProposalRecord(prefix, getProposalRecord(prefix));
+        }
+    }
+
+    public static void setTotalBudget(String prefix, BigInteger budget) {
+        ProposalRecord record = getProposalRecord(prefix);
+        record.totalBudget = budget;
+        setProposalRecord(prefix, record);
+    }
+
+    public static void setProjectDuration(String prefix, int duration) {
+        ProposalRecord record = getProposalRecord(prefix);
+        record.projectDuration = duration;
+        setProposalRecord(prefix, record);
+    }
+
+    public static void setSponsorAddress(String prefix, Address sponsor) {
+        ProposalRecord record = getProposalRecord(prefix);
+        record.sponsorAddress = sponsor;
+        setProposalRecord(prefix, record);
+    }
+
+    public static void setContributorAddress(String prefix, Address contributor) {
+        ProposalRecord record = getProposalRecord(prefix);
+        record.contributorAddress = contributor;
+        setProposalRecord(prefix, record);
     }
 
     public static void updatePercentageCompleted(String prefix, int percentage) {
@@ -76,31 +172,112 @@ public class ProposalDataDb {
     }
 
     public static Map<String, Object> getDataFromProposalDB(String prefix) {
+        ProposalRecord record = getProposalRecord(prefix);
         return Map.ofEntries(
-                Map.entry(IPFS_HASH, ipfsHash.at(prefix).getOrDefault("")),
-                Map.entry(PROJECT_TITLE, projectTitle.at(prefix).getOrDefault("")),
+                Map.entry(IPFS_HASH, record.ipfsHash),
+                Map.entry(PROJECT_TITLE, record.projectTitle),
                 Map.entry(TIMESTAMP, timestamp.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(TOTAL_BUDGET, totalBudget.at(prefix).getOrDefault(BigInteger.ZERO)),
-                Map.entry(PROJECT_DURATION, projectDuration.at(prefix).getOrDefault(0)),
+                Map.entry(TOTAL_BUDGET, record.totalBudget),
+                Map.entry(PROJECT_DURATION, record.projectDuration),
                 Map.entry(APPROVED_REPORTS, approvedReports.at(prefix).getOrDefault(0)),
-                Map.entry(SPONSOR_ADDRESS, sponsorAddress.at(prefix).get()),
-                Map.entry(CONTRIBUTOR_ADDRESS, contributorAddress.at(prefix).get()),
+                Map.entry(SPONSOR_ADDRESS, record.sponsorAddress),
+                Map.entry(CONTRIBUTOR_ADDRESS, record.contributorAddress),
                 Map.entry(STATUS, status.at(prefix).getOrDefault("")),
-                Map.entry(TX_HASH, txHash.at(prefix).getOrDefault("")),
-                Map.entry(TOKEN, token.at(prefix).getOrDefault("")),
+                Map.entry(TX_HASH, record.txHash),
+                Map.entry(TOKEN, record.token),
                 Map.entry(SPONSOR_DEPOSIT_AMOUNT, sponsorDepositAmount.at(prefix).getOrDefault(BigInteger.ZERO)),
                 Map.entry(SPONSORED_TIMESTAMP, sponsoredTimestamp.at(prefix).getOrDefault(BigInteger.ZERO)),
                 Map.entry(SPONSOR_DEPOSIT_STATUS, sponsorDepositStatus.at(prefix).getOrDefault("")),
                 Map.entry(BUDGET_ADJUSTMENT, budgetAdjustment.at(prefix).getOrDefault(false)),
-                Map.entry(MILESTONE_COUNT,milestoneCount.at(prefix).getOrDefault(0)),
-                Map.entry(IS_MILESTONE,isMilestone.at(prefix).getOrDefault(false)),
+                Map.entry(MILESTONE_COUNT, record.milestoneCount),
+                Map.entry(IS_MILESTONE, record.isMilestone),
                 Map.entry(PERCENTAGE_COMPLETED,percentageCompleted.at(prefix).getOrDefault(0)),
                 Map.entry(SUBMIT_PROGRESS_REPORT, submitProgressReport.at(prefix).getOrDefault(false)),
                 Map.entry(PROPOSAL_PERIOD,proposalPeriod.at(prefix).getOrDefault(0)));
     }
 
+    // only the slots behind the requested fields are read, all fields are returned when none are given
+    public static Map<String, Object> getDataFromProposalDB(String prefix, String[] fields) {
+        if (fields == null || fields.length == 0) {
+            return getDataFromProposalDB(prefix);
+        }
+        Map<String, Object> data = new HashMap<>();
+        ProposalRecord record = null;
+        for (String field : fields) {
+            switch (field) {
+                case TIMESTAMP:
+                    data.put(field, timestamp.at(prefix).getOrDefault(BigInteger.ZERO));
+                    break;
+                case APPROVED_REPORTS:
+                    data.put(field, approvedReports.at(prefix).getOrDefault(0));
+                    break;
+                case STATUS:
+                    data.put(field, status.at(prefix).getOrDefault(""));
+                    break;
+                case SPONSOR_DEPOSIT_AMOUNT:
+                    data.put(field, sponsorDepositAmount.at(prefix).getOrDefault(BigInteger.ZERO));
+                    break;
+                case SPONSORED_TIMESTAMP:
+                    data.put(field, sponsoredTimestamp.at(prefix).getOrDefault(BigInteger.ZERO));
+                    break;
+                case SPONSOR_DEPOSIT_STATUS:
+                    data.put(field, sponsorDepositStatus.at(prefix).getOrDefault(""));
+                    break;
+                case SPONSOR_VOTE_REASON:
+                    data.put(field, sponsorVoteReason.at(prefix).getOrDefault(""));
+                    break;
+                case BUDGET_ADJUSTMENT:
+                    data.put(field, budgetAdjustment.at(prefix).getOrDefault(false));
+                    break;
+                case PERCENTAGE_COMPLETED:
+                    data.put(field, percentageCompleted.at(prefix).getOrDefault(0));
+                    break;
+                case SUBMIT_PROGRESS_REPORT:
+                    data.put(field, submitProgressReport.at(prefix).getOrDefault(false));
+                    break;
+                case PROPOSAL_PERIOD:
+                    data.put(field, proposalPeriod.at(prefix).getOrDefault(0));
+                    break;
+                default:
+                    if (record == null) {
+                        record = getProposalRecord(prefix);
+                    }
+                    data.put(field, getRecordField(record, field));
+            }
+        }
+        return data;
+    }
+
+    private static Object getRecordField(ProposalRecord record, String field) {
+        switch (field) {
+            case IPFS_HASH:
+                return record.ipfsHash;
+            case PROJECT_TITLE:
+                return record.projectTitle;
+            case TOTAL_BUDGET:
+                return record.totalBudget;
+            case PROJECT_DURATION:
+                return record.projectDuration;
+            case SPONSOR_ADDRESS:
+                return record.sponsorAddress;
+            case CONTRIBUTOR_ADDRESS:
+                return record.contributorAddress;
+            case TX_HASH:
+                return record.txHash;
+            case TOKEN:
+                return record.token;
+            case MILESTONE_COUNT:
+                return record.milestoneCount;
+            case IS_MILESTONE:
+                return record.isMilestone;
+            default:
+                Context.revert(TAG + ": " + field + " is not a proposal field.");
+                return null;
+        }
+    }
+
     public static int getMilestoneCount(String prefix) {
-        return milestoneCount.at(prefix).getOrDefault(0);
+        return getProposalRecord(prefix).milestoneCount;
     }
 
 
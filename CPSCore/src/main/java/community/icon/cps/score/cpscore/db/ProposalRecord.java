@@ -0,0 +1,65 @@
+package community.icon.cps.score.cpscore.db;
+
+import score.Address;
+import score.ObjectReader;
+import score.ObjectWriter;
+
+import java.math.BigInteger;
+
+/***
+ Fields of a proposal that are set on submission and rarely change afterwards, stored in a single slot.
+ Status, timestamps, votes and the other counters stay in their own slots in ProposalDataDb.
+ ***/
+public class ProposalRecord {
+    public String ipfsHash;
+    public String projectTitle;
+    public BigInteger totalBudget;
+    public int projectDuration;
+    public Address sponsorAddress;
+    public Address contributorAddress;
+    public String token;
+    public String ipfsLink;
+    public String txHash;
+    public int milestoneCount;
+    public boolean isMilestone;
+
+    public static void writeObject(ObjectWriter w, ProposalRecord record) {
+        w.beginList(11);
+        w.writeNullable(record.ipfsHash);
+        w.writeNullable(record.projectTitle);
+        w.write(record.totalBudget);
+        w.write(record.projectDuration);
+        w.writeNullable(record.sponsorAddress);
+        w.writeNullable(record.contributorAddress);
+        w.writeNullable(record.token);
+        w.writeNullable(record.ipfsLink);
+        w.writeNullable(record.txHash);
+        w.write(record.milestoneCount);
+        w.write(record.isMilestone);
+        w.end();
+    }
+
+    public static ProposalRecord readObject(ObjectReader r) {
+        ProposalRecord record = new ProposalRecord();
+        r.beginList();
+        record.ipfsHash = readOptionalString(r);
+        record.projectTitle = readOptionalString(r);
+        record.totalBudget = r.readBigInteger();
+        record.projectDuration = r.readInt();
+        record.sponsorAddress = r.readNullable(Address.class);
+        record.contributorAddress = r.readNullable(Address.class);
+        record.token = readOptionalString(r);
+        record.ipfsLink = readOptionalString(r);
+        record.txHash = readOptionalString(r);
+        record.milestoneCount = r.readInt();
+        record.isMilestone = r.readBoolean();
+        r.end();
+        return record;
+    }
+
+    // optional fields were stored in nullable per-field slots before, so a missing value reads back as ""
+    private static String readOptionalString(ObjectReader r) {
+        String value = r.readNullable(String.class);
+        return value == null ? "" : value;
+    }
+}
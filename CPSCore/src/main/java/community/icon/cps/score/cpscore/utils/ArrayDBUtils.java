@@ -1,11 +1,16 @@
 package community.icon.cps.score.cpscore.utils;
 
+import score.Address;
 import score.ArrayDB;
+import score.BranchDB;
+import score.DictDB;
 import scorex.util.ArrayList;
 
 import java.util.List;
 import java.util.Map;
 
+import static community.icon.cps.score.cpscore.utils.Constants.VOTE_LIST_INDEX;
+
 public final class ArrayDBUtils {
     public static void clearArrayDb(ArrayDB<?> array_db) {
         int size = array_db.size();
@@ -31,6 +36,75 @@ public final class ArrayDBUtils {
         }
     }
 
+    public static <T> void addIndexedItem(ArrayDB<T> array_db, DictDB<T, Integer> positions, T item) {
+        array_db.add(item);
+        positions.set(item, array_db.size());
+    }
+
+    // 1 based position of the item kept in positions, 0 when the item is not in the array
+    public static <T> int indexOf(ArrayDB<T> array_db, DictDB<T, Integer> positions, T item) {
+        int size = array_db.size();
+        int index = positions.getOrDefault(item, 0);
+        if (index > 0 && index <= size && array_db.get(index - 1).equals(item)) {
+            return index;
+        }
+        // position not recorded for items added before the index existed
+        for (int i = 0; i < size; i++) {
+            if (array_db.get(i).equals(item)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    // swaps the last item into the place of the removed one, the 1 based position is kept in positions
+    public static <T> void removeIndexedItem(ArrayDB<T> array_db, DictDB<T, Integer> positions, T item) {
+        int size = array_db.size();
+        int index = indexOf(array_db, positions, item);
+        if (index == 0) {
+            return;
+        }
+
+        T last = array_db.pop();
+        if (index < size) {
+            array_db.set(index - 1, last);
+            positions.set(last, index);
+        }
+        positions.set(item, null);
+    }
+
+    public static void addIndexedItem(ArrayDB<Address> array_db, BranchDB<Address, DictDB<String, Integer>> indices,
+                                      Address item) {
+        array_db.add(item);
+        indices.at(item).set(VOTE_LIST_INDEX, array_db.size());
+    }
+
+    // swaps the last item into the slot of the removed one, the slot is read from and kept in indices
+    public static void removeIndexedItem(ArrayDB<Address> array_db, BranchDB<Address, DictDB<String, Integer>> indices,
+                                         Address item) {
+        int size = array_db.size();
+        int index = indices.at(item).getOrDefault(VOTE_LIST_INDEX, 0);
+        if (index == 0 || index > size || !array_db.get(index - 1).equals(item)) {
+            // slot not recorded for votes cast before the index existed
+            index = 0;
+            for (int i = 0; i < size; i++) {
+                if (array_db.get(i).equals(item)) {
+                    index = i + 1;
+                    break;
+                }
+            }
+            if (index == 0) {
+                return;
+            }
+        }
+
+        Address last = array_db.pop();
+        if (index < size) {
+            array_db.set(index - 1, last);
+            indices.at(last).set(VOTE_LIST_INDEX, index);
+        }
+        indices.at(item).set(VOTE_LIST_INDEX, null);
+    }
 
     public static <T> boolean containsInArrayDb(T value, ArrayDB<T> array) {
         boolean contains = false;
@@ -90,6 +164,39 @@ public final class ArrayDBUtils {
         return list;
     }
 
+    // reads only [startIndex, startIndex + pageSize) of the arrays taken one after another
+    @SafeVarargs
+    public static <T> List<T> getPage(int startIndex, int pageSize, ArrayDB<T>... arrays) {
+        List<T> page = new ArrayList<>();
+        int offset = Math.max(startIndex, 0);
+        int remaining = pageSize;
+        for (ArrayDB<T> array : arrays) {
+            if (remaining <= 0) {
+                break;
+            }
+            int size = array.size();
+            if (offset >= size) {
+                offset -= size;
+                continue;
+            }
+            int end = Math.min(size, offset + remaining);
+            for (int i = offset; i < end; i++) {
+                page.add(array.get(i));
+            }
+            remaining -= end - offset;
+            offset = 0;
+        }
+        return page;
+    }
+
+    public static int totalSize(ArrayDB<?>... arrays) {
+        int size = 0;
+        for (ArrayDB<?> array : arrays) {
+            size += array.size();
+        }
+        return size;
+    }
+
     public static <T> List<T> arrayToList(T[] array){
         List<T> list = new ArrayList<>();
         for (int i = 0; i < array.length; i++){
@@ -13,6 +13,7 @@ public class Constants {
     public static final Integer MINIMUM_PREPS = 7;
 
     public static final Integer MAX_PROJECT_PERIOD = 12;
+    public static final Integer MAX_BATCH_ITEMS = 50;
     public static final double MAJORITY = 0.67;
     public static final BigInteger DAY_COUNT = BigInteger.valueOf(15);
     public static final BigInteger BLOCKS_DAY_COUNT = BigInteger.valueOf(43120);
@@ -46,6 +47,15 @@ public class Constants {
     public static final String NEXTBLOCK = "next_block";
     public static final String REMAINING_TIME = "remaining_time";
     public static final String UPDATE_PERIOD_INDEX = "update_period_index";
+    public static final String UPDATE_PERIOD_CURSOR = "update_period_cursor";
+    public static final String UPDATE_PERIOD_QUEUE = "update_period_queue";
+    public static final String UPDATE_PERIOD_DISTRIBUTION_AMOUNT = "update_period_distribution_amount";
+    public static final String UPDATE_PERIOD_FILL_CURSOR = "update_period_fill_cursor";
+    public static final String UPDATE_PERIOD_QUEUE_FILLED = "update_period_queue_filled";
+    public static final int PERIOD_UPDATE_BATCH_SIZE = 20;
+    public static final String UPDATE_STAGE = "update_stage";
+    public static final String ITEMS_PROCESSED = "items_processed";
+    public static final String ITEMS_REMAINING = "items_remaining";
 
     //                    PREPS Related Constants
     public static final String MAIN_PREPS = "main_preps";
@@ -55,6 +65,19 @@ public class Constants {
     public static final String REGISTERED_PREPS = "registered_preps";
     public static final String INACTIVE_PREPS = "inactive_preps";
     public static final String PREP_NAME = "prep_name";
+    public static final String PREP_ROLES = "prep_roles";
+    public static final String PREP_ROLE_POSITIONS = "prep_role_positions";
+    public static final String PREP_ROLES_SYNCED = "prep_roles_synced";
+    public static final String PREP_TERM_SNAPSHOT = "prep_term_snapshot";
+    public static final String PREP_TERM_SNAPSHOT_ID = "prep_term_snapshot_id";
+
+    //                    P-Rep role bits
+    public static final int ROLE_VALID = 1;
+    public static final int ROLE_REGISTERED = 1 << 1;
+    public static final int ROLE_UNREGISTERED = 1 << 2;
+    public static final int ROLE_DENYLISTED = 1 << 3;
+    public static final int ROLE_INACTIVE = 1 << 4;
+    public static final int ROLE_BLOCKED = 1 << 5;
 
     public static final String ICX = "ICX";
     public static final String bnUSD = "bnUSD";
@@ -73,6 +96,8 @@ public class Constants {
     public static final String SPONSOR_ADDRESS = "sponsor_address";
     public static final String TOTAL_BUDGET = "total_budget";
     public static final String ACTIVE_PROPOSALS = "active_proposals";
+    public static final String ACTIVE_PROPOSAL_ROUNDS = "active_proposal_rounds";
+    public static final String ACTIVE_PROPOSALS_ROUND = "active_proposals_round";
     public static final String AMOUNT = "_total_amount";
     public static final String ADDRESS = "address";
 
@@ -122,6 +147,9 @@ public class Constants {
     public static final String BUDGET_ADJUSTMENT = "budget_adjustment";
     public static final String IS_MILESTONE = "isMilestone";
     public static final String PROPOSAL_PERIOD = "proposalPeriod";
+    public static final String PROPOSAL_RECORD = "proposal_record";
+    public static final String PROGRESS_REPORT_RECORD = "progress_report_record";
+    public static final String MILESTONE_RECORD = "milestone_record";
     public static final String BUDGETADJUSTMENT = "budgetAdjustment";
     public static final String BUDGET_ADJUSTMENT_STATUS = "budget_adjustment_status";
     public static final String BUDGET_APPROVED_VOTES = "budget_approved_votes";
@@ -148,11 +176,17 @@ public class Constants {
     public static final String MAX_DELEGATION = "max_delegation";
     public static final String TOTAL_DELEGATION_SNAPSHOT = "totalDelegationSnapshot";
     public static final String PROPOSAL_FEES = "proposal_fees";
-    public static final String SWAP_BLOCK_HEIGHT = "swap_block_height";
     public static final String SWAP_COUNT = "swap_count";
     public static final String PERIOD_COUNT = "period_count";
 
     public static final String PROPOSAL_RANK = "proposal_rank";
+    public static final String PRIORITY_RANKING = "priority_ranking";
+    public static final String PRIORITY_RANKING_INDEX = "priority_ranking_index";
+    public static final String PRIORITY_ORDER = "priority_order";
+    public static final String PRIORITY_LAST_ORDER = "priority_last_order";
+    public static final String PRIORITY_FIRST_ORDER = "priority_first_order";
+    public static final String PRIORITY_RANKING_GENERATION = "priority_ranking_generation";
+    public static final String PRIORITY_SYNCED_GENERATION = "priority_synced_generation";
     public static final String PRIORITY_VOTED_PREPS = "priority_voted_preps";
     public static final String BLOCKED_ADDRESSES = "blocked_addresses";
     public static final String SPONSOR_PROJECTS = "sponsor_projects";
@@ -165,6 +199,31 @@ public class Constants {
     public static final String VOTE = "vote";
     public static final String INDEX = "index";
     public static final String CHANGE_VOTE = "change_vote";
+    public static final String VOTE_LIST_INDEX = "vote_list_index";
+    public static final String PROJECT_AMOUNTS = "project_amounts";
+    public static final String PROJECT_AMOUNTS_COUNTED_STATUS = "project_amounts_counted_status";
+    public static final String PROJECT_AMOUNTS_BACKFILL_CURSOR = "project_amounts_backfill_cursor";
+    public static final String PROJECT_AMOUNTS_READY = "project_amounts_ready";
+    public static final String SPONSOR_STATUS_PROPOSALS = "sponsor_status_proposals";
+    public static final String SPONSOR_APPROVED_BONDS = "sponsor_approved_bonds";
+    public static final String SPONSOR_INDEXED_STATUS = "sponsor_indexed_status";
+    public static final String SPONSOR_INDEX_POSITION = "sponsor_index_position";
+    public static final String SPONSOR_INDEX_BACKFILL_CURSOR = "sponsor_index_backfill_cursor";
+    public static final String SPONSOR_INDEX_READY = "sponsor_index_ready";
+    public static final String PROPOSAL_STATUS_INDEX = "proposal_status_index";
+    public static final String PROGRESS_REPORT_STATUS_INDEX = "progress_report_status_index";
+    public static final String PREP_REQUIRED_VOTES = "prep_required_votes";
+    public static final String PREP_CAST_VOTES = "prep_cast_votes";
+    public static final String REMAINING_VOTES_SIZE = "remaining_votes_size";
+    public static final String REMAINING_VOTES_ENTRIES = "remaining_votes_entries";
+    public static final String REMAINING_VOTES_POSITIONS = "remaining_votes_positions";
+    public static final String SIGNED_VOTE_NONCE = "signed_vote_nonce";
+    public static final String CONFIG_VERSION = "config_version";
+    public static final String CONFIG_PUSHED_VERSION = "config_pushed_version";
+    public static final String PROPOSAL_VOTE_ROUND = "proposal_vote_round";
+    public static final String MAJORITY_APPROVED = "majority_approved";
+    public static final String MILESTONE_VOTE_ROUND = "milestone_vote_round";
+    public static final String PRIORITY_VOTED_PERIOD = "priority_voted_period";
     public static final String VOTE_REASON = "vote_reason";
     public static final String APPROVE = "_approve";
     public static final String REJECT = "_reject";
@@ -180,7 +239,6 @@ public class Constants {
 
     //    Sponsor Fee
     public static final Integer APPLICATION_FEE = 50;
-    public static final BigInteger SWAP_BLOCK_DIFF = BigInteger.valueOf(5);
 
 
     public static final String SPONSOR_PENDING = "_sponsor_pending";
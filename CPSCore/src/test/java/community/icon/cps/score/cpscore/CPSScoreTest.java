@@ -5,6 +5,8 @@ import com.iconloop.score.test.Account;
 import com.iconloop.score.test.Score;
 import com.iconloop.score.test.ServiceManager;
 import com.iconloop.score.test.TestBase;
+import community.icon.cps.score.cpscore.db.ProgressReportDataDb;
+import community.icon.cps.score.cpscore.db.ProposalDataDb;
 import community.icon.cps.score.cpscore.utils.Constants;
 import community.icon.cps.score.lib.interfaces.CPSCoreInterface;
 import org.junit.jupiter.api.*;
@@ -25,6 +27,10 @@ import static community.icon.cps.score.cpscore.utils.Constants.*;
 import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.ProgressReportAttributes;
 import static community.icon.cps.score.lib.interfaces.CPSCoreInterface.ProposalAttributes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -117,6 +123,86 @@ public class CPSScoreTest extends TestBase {
         expectErrorMessage(removeAdminNotOwner, "Reverted(0): CPS Score: Address not registered as admin.");
     }
 
+    @Test
+    void configChangesReplicatedToTreasuries() {
+        setScoresMethod();
+        doNothing().when(scoreSpy).callScore(any(Address.class), eq("updateConfig"), any(), any(), any(), any(), any(),
+                any());
+
+        cpsScore.invoke(owner, "addAdmin", testingAccount.getAddress());
+        Address[] admins = new Address[]{owner.getAddress(), testingAccount.getAddress()};
+        for (Address treasury : new Address[]{cpsTreasury, cpfTreasury}) {
+            verify(scoreSpy).callScore(eq(treasury), eq("updateConfig"), eq(BigInteger.TWO), aryEq(admins), eq(false),
+                    eq(BigInteger.valueOf(12)), aryEq(new Address[0]), eq(true));
+        }
+
+        cpsScore.invoke(owner, "blockAddress", testingAccount1.getAddress());
+        for (Address treasury : new Address[]{cpsTreasury, cpfTreasury}) {
+            verify(scoreSpy).callScore(eq(treasury), eq("updateConfig"), eq(BigInteger.valueOf(3)), aryEq(admins),
+                    eq(false), eq(BigInteger.valueOf(12)), aryEq(new Address[]{testingAccount1.getAddress()}), eq(false));
+        }
+        assertEquals(BigInteger.valueOf(3), cpsScore.call("getConfigVersion"));
+
+        // the full blocked list is sent again on request
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        cpsScore.invoke(owner, "replicateConfig");
+        for (Address treasury : new Address[]{cpsTreasury, cpfTreasury}) {
+            verify(scoreSpy).callScore(eq(treasury), eq("updateConfig"), eq(BigInteger.valueOf(4)), aryEq(admins),
+                    eq(false), eq(BigInteger.valueOf(12)), aryEq(new Address[]{testingAccount1.getAddress()}), eq(true));
+        }
+    }
+
+    @Test
+    void treasurySetAfterConfigChangeGetsFullBlockedList() {
+        doNothing().when(scoreSpy).callScore(any(Address.class), eq("updateConfig"), any(), any(), any(), any(), any(),
+                any());
+        cpsScore.invoke(owner, "addAdmin", owner.getAddress());
+        cpsScore.invoke(owner, "blockAddress", testingAccount1.getAddress());
+        cpsScore.invoke(owner, "setCpsTreasuryScore", cpsTreasury);
+        cpsScore.invoke(owner, "setCpfTreasuryScore", cpfTreasury);
+
+        cpsScore.invoke(owner, "addAdmin", testingAccount.getAddress());
+        Address[] admins = new Address[]{owner.getAddress(), testingAccount.getAddress()};
+        for (Address treasury : new Address[]{cpsTreasury, cpfTreasury}) {
+            verify(scoreSpy).callScore(eq(treasury), eq("updateConfig"), eq(BigInteger.valueOf(3)), aryEq(admins),
+                    eq(false), eq(BigInteger.valueOf(12)), aryEq(new Address[]{testingAccount1.getAddress()}), eq(true));
+        }
+
+        cpsScore.invoke(owner, "blockAddress", testingAccount2.getAddress());
+        for (Address treasury : new Address[]{cpsTreasury, cpfTreasury}) {
+            verify(scoreSpy).callScore(eq(treasury), eq("updateConfig"), eq(BigInteger.valueOf(4)), aryEq(admins),
+                    eq(false), eq(BigInteger.valueOf(12)), aryEq(new Address[]{testingAccount2.getAddress()}), eq(false));
+        }
+
+        // a changed treasury address missed the earlier versions
+        Address newCpsTreasury = Address.fromString("cx0000000000000000000000000000000000000005");
+        cpsScore.invoke(owner, "setCpsTreasuryScore", newCpsTreasury);
+        cpsScore.invoke(owner, "removeAdmin", testingAccount.getAddress());
+        Address[] adminList = new Address[]{owner.getAddress()};
+        verify(scoreSpy).callScore(eq(newCpsTreasury), eq("updateConfig"), eq(BigInteger.valueOf(5)), aryEq(adminList),
+                eq(false), eq(BigInteger.valueOf(12)),
+                aryEq(new Address[]{testingAccount1.getAddress(), testingAccount2.getAddress()}), eq(true));
+        verify(scoreSpy).callScore(eq(cpfTreasury), eq("updateConfig"), eq(BigInteger.valueOf(5)), aryEq(adminList),
+                eq(false), eq(BigInteger.valueOf(12)), aryEq(new Address[0]), eq(false));
+    }
+
+    @Test
+    void roleLookups() {
+        registerPrepsMethod();
+        assertEquals(true, cpsScore.call("isValidPrep", testingAccount.getAddress()));
+        assertEquals(false, cpsScore.call("isBlocked", testingAccount.getAddress()));
+
+        cpsScore.invoke(owner, "blockAddress", testingAccount.getAddress());
+        assertEquals(false, cpsScore.call("isValidPrep", testingAccount.getAddress()));
+        assertEquals(true, cpsScore.call("isBlocked", testingAccount.getAddress()));
+
+        Map<String, Boolean> roles = (Map<String, Boolean>) cpsScore.call("getRoles", testingAccount.getAddress());
+        assertEquals(true, roles.get("blocked"));
+        assertEquals(true, roles.get("registered"));
+        assertEquals(false, roles.get("valid"));
+        assertEquals(false, ((Map<String, Boolean>) cpsScore.call("getRoles", testingAccount9.getAddress())).get("blocked"));
+    }
+
     void addAdminMethod() {
         cpsScore.invoke(owner, "addAdmin", owner.getAddress());
     }
@@ -127,6 +213,15 @@ public class CPSScoreTest extends TestBase {
         assertEquals(10, ((List<?>) (cpsScore.call("getPReps"))).size());
     }
 
+    @Test
+    void getPRepsFromTermSnapshot() {
+        registerPrepsMethod();
+        List<Map<String, Object>> preps = (List<Map<String, Object>>) cpsScore.call("getPReps");
+        assertEquals("testingAccount", preps.get(1).get("name"));
+        assertEquals("850", preps.get(1).get("delegated"));
+        verify(scoreSpy, never()).callScore(eq(Map.class), eq(SYSTEM_ADDRESS), eq("getPRep"), any());
+    }
+
     @Test
     void registerPrepAlreadyRegistered() {
         List<Map<String, Object>> prepDict =
@@ -243,6 +338,29 @@ public class CPSScoreTest extends TestBase {
         assertEquals(BigInteger.ZERO, loginPrep.get("isRegistered"));
     }
 
+    @Test
+    void unregisterFromMiddleOfRoleLists() {
+        registerPrepsMethod();
+        cpsScore.invoke(testingAccount3, "unregisterPrep");
+        cpsScore.invoke(testingAccount5, "unregisterPrep");
+
+        List<Map<String, Object>> registered = (List<Map<String, Object>>) cpsScore.call("getPReps");
+        assertEquals(8, registered.size());
+        for (Map<String, Object> prep : registered) {
+            Address address = Address.fromString(prep.get("address").toString());
+            Assertions.assertNotEquals(testingAccount3.getAddress(), address);
+            Assertions.assertNotEquals(testingAccount5.getAddress(), address);
+            assertEquals(true, ((Map<String, Boolean>) cpsScore.call("getRoles", address)).get("registered"));
+        }
+        Map<String, Boolean> roles = (Map<String, Boolean>) cpsScore.call("getRoles", testingAccount3.getAddress());
+        assertEquals(true, roles.get("unregistered"));
+        assertEquals(false, roles.get("registered"));
+
+        // a P-Rep moved by the removal can still be removed by its stored position
+        cpsScore.invoke(testingAccount8, "unregisterPrep");
+        assertEquals(7, ((List<?>) cpsScore.call("getPReps")).size());
+    }
+
     @Test
     void unregisterPrepNotInValidPrep() {
         List<Map<String, Object>> prepDict =
@@ -532,7 +650,7 @@ public class CPSScoreTest extends TestBase {
         assertEquals(1, proposalDetails.get("approve_voters"));
         assertEquals(BigInteger.ZERO, proposalDetails.get("rejected_votes"));
         assertEquals(0, proposalDetails.get("reject_voters"));
-        assertEquals(BigInteger.valueOf(10000), proposalDetails.get("total_votes"));
+        assertEquals(BigInteger.valueOf(5910), proposalDetails.get("total_votes"));
         assertEquals(10, proposalDetails.get("total_voters"));
 
 
@@ -549,7 +667,7 @@ public class CPSScoreTest extends TestBase {
         assertEquals(0, proposalDetails.get("approve_voters"));
         assertEquals(BigInteger.valueOf(1000), proposalDetails.get("rejected_votes"));
         assertEquals(1, proposalDetails.get("reject_voters"));
-        assertEquals(BigInteger.valueOf(10000), proposalDetails.get("total_votes"));
+        assertEquals(BigInteger.valueOf(5910), proposalDetails.get("total_votes"));
         assertEquals(10, proposalDetails.get("total_voters"));
 
 
@@ -568,6 +686,31 @@ public class CPSScoreTest extends TestBase {
         expectErrorMessage(alreadyVoted, "Reverted(0): CPS Score:: Already Voted");
     }
 
+    @Test
+    void voteAfterVoterBlockedMidPeriod() {
+        submitAndSponsorVote();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getApplicationPeriod();
+        cpsScore.invoke(owner, "updatePeriod");
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+        cpsScore.invoke(owner, "voteProposal", "Proposal 1", APPROVE, "reason", false);
+        cpsScore.invoke(owner, "blockAddress", owner.getAddress());
+
+        // removing a P-Rep does not make any of the others be seen as having voted
+        Account[] voters = new Account[]{testingAccount, testingAccount1, testingAccount2, testingAccount3,
+                testingAccount4, testingAccount5, testingAccount6, testingAccount7, testingAccount8};
+        for (Account voter : voters) {
+            contextMock.when(caller()).thenReturn(voter.getAddress());
+            cpsScore.invoke(voter, "voteProposal", "Proposal 1", APPROVE, "reason", false);
+        }
+        assertEquals(10, getVoteResult("Proposal 1").get("approve_voters"));
+
+        contextMock.when(caller()).thenReturn(testingAccount8.getAddress());
+        Executable alreadyVoted = () -> cpsScore.invoke(testingAccount8, "voteProposal", "Proposal 1", REJECT, "reason", false);
+        expectErrorMessage(alreadyVoted, "Reverted(0): CPS Score:: Already Voted");
+    }
+
     @Test
     @DisplayName("vote reject then change it to approve")
     void voteProposal2() {
@@ -585,7 +728,7 @@ public class CPSScoreTest extends TestBase {
         assertEquals(0, proposalDetails.get("approve_voters"));
         assertEquals(BigInteger.valueOf(1000), proposalDetails.get("rejected_votes"));
         assertEquals(1, proposalDetails.get("reject_voters"));
-        assertEquals(BigInteger.valueOf(10000), proposalDetails.get("total_votes"));
+        assertEquals(BigInteger.valueOf(5910), proposalDetails.get("total_votes"));
         assertEquals(10, proposalDetails.get("total_voters"));
 
 
@@ -596,7 +739,7 @@ public class CPSScoreTest extends TestBase {
         assertEquals(1, proposalDetails.get("abstain_voters"));
         assertEquals(BigInteger.ZERO, proposalDetails.get("rejected_votes"));
         assertEquals(0, proposalDetails.get("reject_voters"));
-        assertEquals(BigInteger.valueOf(10000), proposalDetails.get("total_votes"));
+        assertEquals(BigInteger.valueOf(5910), proposalDetails.get("total_votes"));
         assertEquals(10, proposalDetails.get("total_voters"));
 
 
@@ -708,6 +851,193 @@ public class CPSScoreTest extends TestBase {
         }
     }
 
+    @Test
+    void pagedProposalReads() {
+        submitMultipleProposals();
+        Map<String, Object> pendingProposals = (Map<String, Object>) cpsScore.call("getProposalDetails", PENDING, owner.getAddress(), 8);
+        assertEquals(10, pendingProposals.get("count"));
+        assertEquals(2, ((List<?>) pendingProposals.get("data")).size());
+
+        Map<String, Object> sponsorRequests = (Map<String, Object>) cpsScore.call("getSponsorsRequests", APPROVED, testingAccount.getAddress(), 5);
+        assertEquals(10, sponsorRequests.get("count"));
+        List<Map<String, Object>> requests = (List<Map<String, Object>>) sponsorRequests.get("data");
+        assertEquals(5, requests.size());
+        assertEquals("Proposal 5", requests.get(0).get(IPFS_HASH));
+    }
+
+    @Test
+    void statusListsFollowTransitions() {
+        submitMultipleProposals();
+        // every sponsor vote took the first sponsor pending proposal, the last one was swapped into its slot
+        assertEquals(List.of(), cpsScore.call("getProposalsKeysByStatus", SPONSOR_PENDING));
+        List<String> pending = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pending.add("Proposal " + i);
+        }
+        assertEquals(pending, cpsScore.call("getProposalsKeysByStatus", PENDING));
+    }
+
+    @Test
+    void batchProposalReads() {
+        submitMultipleProposals();
+        String[] keys = new String[]{"Proposal 7", "Proposal 2"};
+        List<Map<String, Object>> proposals = (List<Map<String, Object>>) cpsScore.call("getProposalDetailsByHashes", (Object) keys);
+        assertEquals(2, proposals.size());
+        assertEquals(getProposalDetailsByHash("Proposal 7"), proposals.get(0));
+        assertEquals(getProposalDetailsByHash("Proposal 2"), proposals.get(1));
+
+        List<Map<String, Object>> voteResults = (List<Map<String, Object>>) cpsScore.call("getVoteResults", (Object) keys);
+        assertEquals(cpsScore.call("getVoteResult", "Proposal 2"), voteResults.get(1));
+
+        String[] tooManyKeys = new String[MAX_BATCH_ITEMS + 1];
+        Executable batchTooLarge = () -> cpsScore.call("getProposalDetailsByHashes", (Object) tooManyKeys);
+        expectErrorMessage(batchTooLarge, "Reverted(0): " + TAG + ": At most " + MAX_BATCH_ITEMS + " items can be read at once.");
+    }
+
+    @Test
+    void proposalFieldProjection() {
+        submitMultipleProposals();
+        String[] fields = new String[]{STATUS, PROJECT_TITLE};
+        Map<String, Object> proposal = (Map<String, Object>) cpsScore.call("getProposalDetailsByHash", "Proposal 4", fields);
+        Map<String, Object> fullProposal = getProposalDetailsByHash("Proposal 4");
+        assertEquals(Map.of(STATUS, PENDING, PROJECT_TITLE, fullProposal.get(PROJECT_TITLE)), proposal);
+
+        Executable unknownField = () -> cpsScore.call("getProposalDetailsByHash", "Proposal 4", (Object) new String[]{"budget"});
+        expectErrorMessage(unknownField, "Reverted(0): " + TAG + ": budget is not a proposal field.");
+    }
+
+    @Test
+    void projectAmountsFromRunningSums() {
+        submitMultipleProposals();
+        Map<String, Map<String, Object>> projectAmounts = (Map<String, Map<String, Object>>) cpsScore.call("getProjectAmounts");
+        assertEquals(10, projectAmounts.get(PENDING).get(COUNT));
+        assertEquals(Map.of("ICX", BigInteger.ZERO, bnUSD, BigInteger.valueOf(1000).multiply(MULTIPLIER)),
+                projectAmounts.get(PENDING).get(AMOUNT));
+    }
+
+    @Test
+    void remainingProjectsAfterVotes() {
+        submitMultipleProposals();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getApplicationPeriod();
+        cpsScore.invoke(owner, "updatePeriod");
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+
+        List<Map<String, Object>> remaining = (List<Map<String, Object>>) cpsScore.call("getRemainingProject", PROPOSAL, owner.getAddress());
+        assertEquals(10, remaining.size());
+
+        cpsScore.invoke(owner, "voteProposal", "Proposal 3", APPROVE, "reason", false);
+        cpsScore.invoke(owner, "voteProposal", "Proposal 9", REJECT, "reason", false);
+
+        remaining = (List<Map<String, Object>>) cpsScore.call("getRemainingProject", PROPOSAL, owner.getAddress());
+        assertEquals(8, remaining.size());
+        for (Map<String, Object> proposal : remaining) {
+            assertFalse(List.of("Proposal 3", "Proposal 9").contains(proposal.get(IPFS_HASH)));
+        }
+        remaining = (List<Map<String, Object>>) cpsScore.call("getRemainingProject", PROPOSAL, testingAccount.getAddress());
+        assertEquals(10, remaining.size());
+
+        // entries moved into the place of voted ones are removed as well
+        for (int i = 0; i < 10; i++) {
+            if (i != 3 && i != 9) {
+                cpsScore.invoke(owner, "voteProposal", "Proposal " + i, APPROVE, "reason", false);
+                remaining = (List<Map<String, Object>>) cpsScore.call("getRemainingProject", PROPOSAL, owner.getAddress());
+                for (Map<String, Object> proposal : remaining) {
+                    assertNotEquals("Proposal " + i, proposal.get(IPFS_HASH));
+                }
+            }
+        }
+        assertEquals(0, remaining.size());
+    }
+
+    @Test
+    void voteProposalsInOneTransaction() {
+        submitMultipleProposals();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getApplicationPeriod();
+        cpsScore.invoke(owner, "updatePeriod");
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+
+        CPSCoreInterface.ProposalVote[] votes = new CPSCoreInterface.ProposalVote[3];
+        for (int i = 0; i < votes.length; i++) {
+            votes[i] = new CPSCoreInterface.ProposalVote();
+            votes[i].ipfsKey = "Proposal " + i;
+            votes[i].vote = i == 1 ? REJECT : APPROVE;
+            votes[i].voteReason = "reason " + i;
+        }
+        cpsScore.invoke(owner, "voteProposals", (Object) votes);
+
+        Map<String, Object> voteResult = (Map<String, Object>) cpsScore.call("getVoteResult", "Proposal 1");
+        assertEquals(1, voteResult.get(REJECT_VOTERS));
+        assertEquals(0, voteResult.get(APPROVE_VOTERS));
+        voteResult = (Map<String, Object>) cpsScore.call("getVoteResult", "Proposal 2");
+        assertEquals(1, voteResult.get(APPROVE_VOTERS));
+        verify(scoreSpy, times(3)).VotedSuccessfully(eq(owner.getAddress()), any());
+
+        List<Map<String, Object>> remaining = (List<Map<String, Object>>) cpsScore.call("getRemainingProject", PROPOSAL, owner.getAddress());
+        assertEquals(7, remaining.size());
+
+        Executable voteAgain = () -> cpsScore.invoke(owner, "voteProposals", (Object) votes);
+        expectErrorMessage(voteAgain, "Reverted(0): " + TAG + ":: Already Voted");
+    }
+
+    @Test
+    void submitSignedVotesInOneTransaction() {
+        submitMultipleProposals();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getApplicationPeriod();
+        cpsScore.invoke(owner, "updatePeriod");
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+
+        Account[] voters = new Account[]{owner, testingAccount, testingAccount1, testingAccount2};
+        CPSCoreInterface.SignedVoteBatch[] batches = new CPSCoreInterface.SignedVoteBatch[voters.length];
+        for (int i = 0; i < voters.length; i++) {
+            CPSCoreInterface.ProposalVote[] votes = new CPSCoreInterface.ProposalVote[10];
+            for (int j = 0; j < votes.length; j++) {
+                votes[j] = new CPSCoreInterface.ProposalVote();
+                votes[j].ipfsKey = "Proposal " + j;
+                votes[j].vote = APPROVE;
+                votes[j].voteReason = "reason";
+            }
+            batches[i] = new CPSCoreInterface.SignedVoteBatch();
+            batches[i].voter = voters[i].getAddress();
+            batches[i].nonce = BigInteger.ZERO;
+            batches[i].proposalVotes = votes;
+            byte[] signature = new byte[]{(byte) i};
+            batches[i].signature = signature;
+
+            byte[] publicKey = new byte[]{(byte) (100 + i)};
+            contextMock.when(() -> Context.recoverKey(eq("ecdsa-secp256k1"), any(byte[].class),
+                    aryEq(signature), eq(false))).thenReturn(publicKey);
+            contextMock.when(() -> Context.getAddressFromKey(aryEq(publicKey))).thenReturn(voters[i].getAddress());
+        }
+
+        // one relayer transaction carries the votes of every P-Rep
+        cpsScore.invoke(testingAccount9, "submitSignedVotes", (Object) batches);
+
+        for (int j = 0; j < 10; j++) {
+            Map<String, Object> voteResult = (Map<String, Object>) cpsScore.call("getVoteResult", "Proposal " + j);
+            assertEquals(voters.length, voteResult.get(APPROVE_VOTERS));
+        }
+        verify(scoreSpy, times(10)).VotedSuccessfully(eq(testingAccount2.getAddress()), any());
+        assertEquals(BigInteger.ONE, cpsScore.call("getVoteNonce", owner.getAddress()));
+
+        Executable replay = () -> cpsScore.invoke(testingAccount9, "submitSignedVotes", (Object) batches);
+        expectErrorMessage(replay, "Reverted(0): " + TAG + ": Invalid nonce for " + owner.getAddress() + ", expected 1");
+
+        CPSCoreInterface.SignedVoteBatch forged = new CPSCoreInterface.SignedVoteBatch();
+        forged.voter = testingAccount3.getAddress();
+        forged.nonce = BigInteger.ZERO;
+        forged.proposalVotes = batches[0].proposalVotes;
+        forged.signature = batches[0].signature;
+        Executable forgedCall = () -> cpsScore.invoke(testingAccount9, "submitSignedVotes",
+                (Object) new CPSCoreInterface.SignedVoteBatch[]{forged});
+        expectErrorMessage(forgedCall, "Reverted(0): " + TAG + ": Votes are not signed by " + testingAccount3.getAddress());
+    }
+
     @Test
     void voteMultipleProposals() {
         submitMultipleProposals();
@@ -816,6 +1146,108 @@ public class CPSScoreTest extends TestBase {
         cpsScore.invoke(owner, "updatePeriod");
     }
 
+    // the verdict is only kept in storage, it is read inside a call so that the storage of the score is used
+    Boolean storedVerdict(String proposal) {
+        Boolean[] verdict = new Boolean[1];
+        doAnswer(invocation -> {
+            String proposalVotes = ProposalDataDb.votePrefix(ProgressReportDataDb.proposalPrefix(proposal));
+            verdict[0] = ProposalDataDb.majorityApproved.at(proposalVotes).get();
+            return invocation.callRealMethod();
+        }).when(scoreSpy).name();
+        cpsScore.call("name");
+        return verdict[0];
+    }
+
+    @Test
+    void runningVerdictFollowsVotes() {
+        submitAndSponsorVote();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getApplicationPeriod();
+        cpsScore.invoke(owner, "updatePeriod");
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+
+        // the seventh approval brings 7 of 10 voters and 5160 of 5910 stake, above the majority on both
+        Account[] voters = new Account[]{owner, testingAccount, testingAccount1, testingAccount2, testingAccount3,
+                testingAccount4, testingAccount5};
+        for (int i = 0; i < voters.length; i++) {
+            contextMock.when(caller()).thenReturn(voters[i].getAddress());
+            cpsScore.invoke(voters[i], "voteProposal", "Proposal 1", APPROVE, "reason", false);
+            assertEquals(i == voters.length - 1, storedVerdict("Proposal 1"));
+        }
+
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        cpsScore.invoke(owner, "voteProposal", "Proposal 1", REJECT, "reason", true);
+        assertEquals(false, storedVerdict("Proposal 1"));
+
+        contextMock.when(caller()).thenReturn(testingAccount6.getAddress());
+        cpsScore.invoke(testingAccount6, "voteProposal", "Proposal 1", APPROVE, "reason", false);
+        assertEquals(true, storedVerdict("Proposal 1"));
+
+        contextMock.when(caller()).thenReturn(testingAccount.getAddress());
+        cpsScore.invoke(testingAccount, "voteProposal", "Proposal 1", ABSTAIN, "reason", true);
+        assertEquals(false, storedVerdict("Proposal 1"));
+    }
+
+    @Test
+    void verdictComputedFromTalliesWhenMissing() {
+        voteProposalMethod();
+        // votes cast before the verdict was stored with them
+        doAnswer(invocation -> {
+            String proposalVotes = ProposalDataDb.votePrefix(ProgressReportDataDb.proposalPrefix("Proposal 1"));
+            ProposalDataDb.majorityApproved.at(proposalVotes).set(null);
+            return invocation.callRealMethod();
+        }).when(scoreSpy).name();
+        cpsScore.call("name");
+        assertNull(storedVerdict("Proposal 1"));
+
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        Map<String, BigInteger> totalFunds = Map.of(
+                Constants.ICX, BigInteger.valueOf(1000).multiply(MULTIPLIER),
+                bnUSD, BigInteger.valueOf(1000).multiply(MULTIPLIER)
+        );
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+        doReturn(totalFunds).when(scoreSpy).callScore(eq(Map.class), eq(cpfTreasury), eq("getTotalFunds"));
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("transferProposalFundToCpsTreasury"),
+                eq("Proposal 1"), eq(2), eq(testingAccount.getAddress()), eq(owner.getAddress()),
+                eq(bnUSD), eq(BigInteger.valueOf(100).multiply(MULTIPLIER)));
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("resetSwapState"));
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getVotingPeriod();
+        updatePeriods();
+
+        assertEquals(ACTIVE, getProposalDetailsByHash("Proposal 1").get("status"));
+    }
+
+    @Test
+    void proposalVotesStartOverWhenLeftPending() {
+        voteProposalMethod();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+
+        // not enough funds for the approved proposal, it stays pending for the next voting period
+        Map<String, BigInteger> totalFunds = Map.of(
+                Constants.ICX, BigInteger.valueOf(10).multiply(MULTIPLIER),
+                bnUSD, BigInteger.valueOf(10).multiply(MULTIPLIER)
+        );
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+        doReturn(totalFunds).when(scoreSpy).callScore(eq(Map.class), eq(cpfTreasury), eq("getTotalFunds"));
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("resetSwapState"));
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getVotingPeriod();
+        assertEquals(true, storedVerdict("Proposal 1"));
+        updatePeriods();
+
+        Map<String, Object> proposalDetails = getProposalDetailsByHash("Proposal 1");
+        assertEquals(PENDING, proposalDetails.get("status"));
+        assertNull(storedVerdict("Proposal 1"));
+
+        Map<String, Object> voteResult = (Map<String, Object>) cpsScore.call("getVoteResult", "Proposal 1");
+        assertEquals(List.of(), voteResult.get(DATA));
+        assertEquals(0, voteResult.get(APPROVE_VOTERS));
+        assertEquals(BigInteger.ZERO, voteResult.get(APPROVED_VOTES));
+        assertEquals(0, cpsScore.call("checkChangeVote", owner.getAddress(), "Proposal 1", "proposal"));
+    }
+
     @Test
     void updatePeriodAfterProposalVoting() {
         voteProposalMethod();
@@ -838,6 +1270,11 @@ public class CPSScoreTest extends TestBase {
         doReturn(BigInteger.valueOf(15)).when(scoreSpy).getVotingPeriod();
         updatePeriods();
 
+        // one proposal in voting and then one active proposal, both counts come to one plus a swap per P-Rep
+        int validPreps = ((List<?>) cpsScore.call("getPReps")).size();
+        assertEquals(1 + validPreps, cpsScore.call("getSwapCount"));
+        verify(scoreSpy, times(2)).callScore(eq(cpfTreasury), eq("setScheduledSwapCount"), eq(1 + validPreps));
+
         Map<String, Object> proposalDetails = getProposalDetailsByHash("Proposal 1");
         Map<String, Object> activeProposals = (Map<String, Object>) cpsScore.call("getActiveProposalsList", 0);
         assertEquals(ACTIVE, proposalDetails.get("status"));
@@ -846,6 +1283,9 @@ public class CPSScoreTest extends TestBase {
 
         Map<String, Object> sponosrsRequest = (Map<String, Object>) cpsScore.call("getSponsorsRequests", APPROVED, testingAccount.getAddress(), 0, 10);
         System.out.println("Sponsors request" + sponosrsRequest);
+        assertEquals(1, sponosrsRequest.get(COUNT));
+        assertEquals(Map.of(Constants.ICX, BigInteger.ZERO, bnUSD, BigInteger.valueOf(12).multiply(MULTIPLIER)),
+                sponosrsRequest.get(SPONSOR_DEPOSIT_AMOUNT));
 
         Map<String, Integer> sponsorsRecord = (Map<String, Integer>) cpsScore.call("getSponsorsRecord");
         assertEquals(1, sponsorsRecord.get(testingAccount.getAddress().toString()));
@@ -860,6 +1300,44 @@ public class CPSScoreTest extends TestBase {
         System.out.println("voteResult: " + voteResult);
     }
 
+    @Test
+    void processPeriodStepAfterProposalVoting() {
+        voteProposalMethod();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+
+        Map<String, BigInteger> totalFunds = Map.of(
+                Constants.ICX, BigInteger.valueOf(1000).multiply(MULTIPLIER),
+                bnUSD, BigInteger.valueOf(1000).multiply(MULTIPLIER)
+        );
+        doReturn(totalFunds).when(scoreSpy).callScore(eq(Map.class), eq(cpfTreasury), eq("getTotalFunds"));
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("transferProposalFundToCpsTreasury"),
+                eq("Proposal 1"), eq(2), eq(testingAccount.getAddress()), eq(owner.getAddress()),
+                eq(bnUSD), eq(BigInteger.valueOf(100).multiply(MULTIPLIER)));
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("resetSwapState"));
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getVotingPeriod();
+
+        Map<String, Object> progress = (Map<String, Object>) cpsScore.call("getPeriodUpdateProgress");
+        assertEquals(0, progress.get("update_stage"));
+        assertEquals(1, progress.get("items_remaining"));
+
+        expectErrorMessage(() -> cpsScore.invoke(owner, "processPeriodStep", 0),
+                "Reverted(0): CPS Score: Items to process should be greater than zero.");
+
+        cpsScore.invoke(owner, "processPeriodStep", 1);
+        progress = (Map<String, Object>) cpsScore.call("getPeriodUpdateProgress");
+        assertEquals(TRANSITION_PERIOD, progress.get(PERIOD_NAME));
+        assertEquals(1, progress.get("update_stage"));
+        assertEquals(0, progress.get("items_processed"));
+
+        for (int i = 0; i < 3; i++) {
+            cpsScore.invoke(owner, "processPeriodStep", 1);
+        }
+        assertEquals(ACTIVE, getProposalDetailsByHash("Proposal 1").get("status"));
+        Map<String, ?> periodStatus = (Map<String, ?>) cpsScore.call("getPeriodStatus");
+        assertEquals(APPLICATION_PERIOD, periodStatus.get(PERIOD_NAME));
+    }
+
     @Test
     void rejectProposal() {
         voteProposalMethodReject();
@@ -1050,6 +1528,71 @@ public class CPSScoreTest extends TestBase {
         System.out.println("progress report vote Result: " + voteResult);
     }
 
+    @Test
+    void voteProgressReportOncePerReport() {
+        submitProgressReport();
+        updateNextBlock();
+        cpsScore.invoke(owner, "updatePeriod");
+        CPSCoreInterface.MilestoneVoteAttributes milestoneVoteAttributes = new CPSCoreInterface.MilestoneVoteAttributes();
+        milestoneVoteAttributes.vote = APPROVE;
+        milestoneVoteAttributes.id = 1;
+
+        CPSCoreInterface.MilestoneVoteAttributes milestoneVoteAttributes2 = new CPSCoreInterface.MilestoneVoteAttributes();
+        milestoneVoteAttributes2.vote = REJECT;
+        milestoneVoteAttributes2.id = 2;
+
+        CPSCoreInterface.MilestoneVoteAttributes[] milestoneVoteAttributesList = new CPSCoreInterface.MilestoneVoteAttributes[]{
+                milestoneVoteAttributes, milestoneVoteAttributes2};
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+        cpsScore.invoke(owner, "voteProgressReport", "Report 1", "owner reason", milestoneVoteAttributesList, "_reject", false);
+        contextMock.when(caller()).thenReturn(testingAccount.getAddress());
+        cpsScore.invoke(testingAccount, "voteProgressReport", "Report 1", "second reason", (Object) milestoneVoteAttributesList, "_reject", false);
+
+        verify(scoreSpy, times(1)).VotedSuccessfully(eq(owner.getAddress()), startsWith("Progress Report Vote for"));
+        Map<String, Object> milestoneVotes = (Map<String, Object>) cpsScore.call("getMilestoneVoteResult", "Report 1", 2);
+        List<Map<String, Object>> voters = (List<Map<String, Object>>) milestoneVotes.get(DATA);
+        assertEquals(testingAccount.getAddress(), voters.get(1).get(ADDRESS));
+        assertEquals("second reason", voters.get(1).get(VOTE_REASON));
+        assertEquals(2, milestoneVotes.get(REJECT_VOTERS));
+    }
+
+    @Test
+    void voteProgressReportsInOneTransaction() {
+        submitProgressReport();
+        updateNextBlock();
+        cpsScore.invoke(owner, "updatePeriod");
+        CPSCoreInterface.MilestoneVoteAttributes milestoneVoteAttributes = new CPSCoreInterface.MilestoneVoteAttributes();
+        milestoneVoteAttributes.vote = APPROVE;
+        milestoneVoteAttributes.id = 1;
+
+        CPSCoreInterface.MilestoneVoteAttributes milestoneVoteAttributes2 = new CPSCoreInterface.MilestoneVoteAttributes();
+        milestoneVoteAttributes2.vote = REJECT;
+        milestoneVoteAttributes2.id = 2;
+
+        CPSCoreInterface.ProgressReportVote reportVote = new CPSCoreInterface.ProgressReportVote();
+        reportVote.reportKey = "Report 1";
+        reportVote.voteReason = "reason";
+        reportVote.votes = new CPSCoreInterface.MilestoneVoteAttributes[]{milestoneVoteAttributes, milestoneVoteAttributes2};
+        reportVote.budgetAdjustmentVote = APPROVE;
+
+        Executable call = () -> cpsScore.invoke(owner, "voteProgressReports",
+                (Object) new CPSCoreInterface.ProgressReportVote[]{});
+        expectErrorMessage(call, "Reverted(0): " + TAG + ": No votes to cast.");
+
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+        cpsScore.invoke(owner, "voteProgressReports", (Object) new CPSCoreInterface.ProgressReportVote[]{reportVote});
+
+        verify(scoreSpy, times(1)).VotedSuccessfully(eq(owner.getAddress()), startsWith("Progress Report Vote for"));
+        Map<String, Object> milestoneVotes = (Map<String, Object>) cpsScore.call("getMilestoneVoteResult", "Report 1", 1);
+        assertEquals(1, milestoneVotes.get(APPROVE_VOTERS));
+        Map<String, Object> budgetAdjustmentDetails = (Map<String, Object>) cpsScore.call("getBudgetAdjustmentDetails", "Report 1");
+        assertEquals(1, budgetAdjustmentDetails.get(BUDGET_APPROVE_VOTERS));
+
+        call = () -> cpsScore.invoke(owner, "voteProgressReports",
+                (Object) new CPSCoreInterface.ProgressReportVote[]{reportVote});
+        expectErrorMessage(call, "Reverted(0): " + TAG + ":: Already Voted");
+    }
+
     @Test
     void voteProgressReportAgain() {
         voteProgressReport();
@@ -1103,7 +1646,7 @@ public class CPSScoreTest extends TestBase {
         Map<String, Object> milestoneReport = (Map<String, Object>) cpsScore.call("getMilestonesReport", "Proposal 1", 1);
 
         assertEquals(2, milestoneReport.get(APPROVE_VOTERS));
-        assertEquals(BigInteger.valueOf(2000), milestoneReport.get(APPROVED_VOTES));
+        assertEquals(BigInteger.valueOf(1850), milestoneReport.get(APPROVED_VOTES));
         assertEquals(BigInteger.valueOf(0), milestoneReport.get(REJECTED_VOTES));
         assertEquals(2, milestoneReport.get(APPROVE_VOTERS));
         assertEquals(0, milestoneReport.get(REJECT_VOTERS));
@@ -1130,7 +1673,7 @@ public class CPSScoreTest extends TestBase {
 
         milestoneReport = (Map<String, Object>) cpsScore.call("getMilestonesReport", "Proposal 1", 1);
         assertEquals(BigInteger.valueOf(0), milestoneReport.get(APPROVED_VOTES));
-        assertEquals(BigInteger.valueOf(2000), milestoneReport.get(REJECTED_VOTES));
+        assertEquals(BigInteger.valueOf(1850), milestoneReport.get(REJECTED_VOTES));
 //        assertEquals(BigInteger.valueOf(0), progressReportDetails.get(BUDGET_APPROVED_VOTES));
 //        assertEquals(BigInteger.valueOf(1000), progressReportDetails.get(BUDGET_REJECTED_VOTES));
         assertEquals(0, milestoneReport.get(APPROVE_VOTERS));
@@ -1208,6 +1751,52 @@ public class CPSScoreTest extends TestBase {
         cpsScore.invoke(owner, "submitProgressReport", progressReport, milestoneSubmission);
     }
 
+    @Test
+    void batchReadsOfProgressReportAndMilestones() {
+        submitProgressReport();
+
+        List<Map<String, Object>> milestones = (List<Map<String, Object>>) cpsScore.call("getMilestonesReports",
+                new String[]{"Proposal 1", "Proposal 1"}, new int[]{1, 2}, null);
+        assertEquals(2, milestones.size());
+        assertEquals(cpsScore.call("getMilestonesReport", "Proposal 1", 1, null), milestones.get(0));
+        assertEquals(cpsScore.call("getMilestonesReport", "Proposal 1", 2, null), milestones.get(1));
+
+        String[] fields = new String[]{TOTAL_VOTERS, STATUS};
+        milestones = (List<Map<String, Object>>) cpsScore.call("getMilestonesReports",
+                new String[]{"Proposal 1", "Proposal 1"}, new int[]{1, 2}, fields);
+        assertEquals(cpsScore.call("getMilestonesReport", "Proposal 1", 2, fields), milestones.get(1));
+
+        List<Map<String, Object>> reports = (List<Map<String, Object>>) cpsScore.call("getProgressReportsByHashes",
+                new String[]{"Report 1", "Report 1"}, null);
+        assertEquals(cpsScore.call("getProgressReportsByHash", "Report 1", null), reports.get(0));
+        assertEquals(reports.get(0), reports.get(1));
+    }
+
+    @Test
+    void submitProgressReportWithOptionalFieldsMissing() {
+        ProgressReportAttributes progressReport = new ProgressReportAttributes();
+        progressReport.ipfs_hash = "Proposal 1";
+        progressReport.report_hash = "Report 1";
+        progressReport.progress_report_title = "Progress Report Title";
+
+        CPSCoreInterface.MilestoneSubmission milestoneSubmission1 = new CPSCoreInterface.MilestoneSubmission();
+        milestoneSubmission1.id = 1;
+        milestoneSubmission1.status = true;
+        CPSCoreInterface.MilestoneSubmission[] milestoneSubmission = new CPSCoreInterface.MilestoneSubmission[]{
+                milestoneSubmission1};
+
+        updatePeriodAfterProposalVoting();
+
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("swapTokens"), any());
+        cpsScore.invoke(owner, "submitProgressReport", progressReport, milestoneSubmission);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> progressReportDetails = (Map<String, Object>) cpsScore.call("getProgressReportsByHash", "Report 1");
+        assertEquals("", progressReportDetails.get("ipfs_link"));
+        assertEquals(false, progressReportDetails.get("budget_adjustment"));
+        assertEquals(BigInteger.ZERO, progressReportDetails.get("additional_budget"));
+    }
+
     @Test
     void voteProgressReportAfterSubmittingProposalWithoutBudgetAdjustment() {
         submitProgressReportWithoutBudgetAdjustment();
@@ -1398,6 +1987,88 @@ public class CPSScoreTest extends TestBase {
         System.out.println(priorityVoteResult);
     }
 
+    @Test
+    void sortPriorityProposalsWithTies() {
+        submitMultipleProposals();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getApplicationPeriod();
+        cpsScore.invoke(owner, "updatePeriod");
+
+        List<String> proposalList = (List<String>) cpsScore.call("sortPriorityProposals");
+        assertEquals(List.of("Proposal 9", "Proposal 8", "Proposal 7", "Proposal 6", "Proposal 5", "Proposal 4",
+                "Proposal 3", "Proposal 2", "Proposal 1", "Proposal 0"), proposalList);
+
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        cpsScore.invoke(owner, "votePriority", (Object) new String[]{"Proposal 3", "Proposal 7"});
+
+        contextMock.when(caller()).thenReturn(testingAccount.getAddress());
+        cpsScore.invoke(testingAccount, "votePriority", (Object) new String[]{"Proposal 7", "Proposal 1"});
+
+        contextMock.when(caller()).thenReturn(testingAccount1.getAddress());
+        cpsScore.invoke(testingAccount1, "votePriority", (Object) new String[]{"Proposal 0", "Proposal 5"});
+
+        proposalList = (List<String>) cpsScore.call("sortPriorityProposals");
+        assertEquals(List.of("Proposal 7", "Proposal 3", "Proposal 0", "Proposal 5", "Proposal 1", "Proposal 9",
+                "Proposal 8", "Proposal 6", "Proposal 4", "Proposal 2"), proposalList);
+    }
+
+
+    @Test
+    void rankingKeptForProposalsStayingPending() {
+        voteMultipleProposalsWithFundsForThree();
+        updatePeriods();
+        assertRankingOfProposalsStayingPending();
+    }
+
+    @Test
+    void rankingBuiltInBoundedSteps() {
+        voteMultipleProposalsWithFundsForThree();
+
+        // no priority vote ranked the proposals before this period, the first steps only rank them
+        cpsScore.invoke(owner, "processPeriodStep", 3);
+        Map<String, Object> progress = (Map<String, Object>) cpsScore.call("getPeriodUpdateProgress");
+        assertEquals(0, progress.get("update_stage"));
+        assertEquals(0, progress.get("items_processed"));
+        assertEquals(10, progress.get("items_remaining"));
+
+        for (int i = 0; i < 20 && !APPLICATION_PERIOD.equals(
+                ((Map<String, ?>) cpsScore.call("getPeriodStatus")).get(PERIOD_NAME)); i++) {
+            cpsScore.invoke(owner, "processPeriodStep", 3);
+        }
+        assertRankingOfProposalsStayingPending();
+    }
+
+    void voteMultipleProposalsWithFundsForThree() {
+        voteMultipleProposals();
+        contextMock.when(caller()).thenReturn(owner.getAddress());
+        updateNextBlock();
+
+        // funds for three of the ten proposals, the others stay pending for the next period
+        Map<String, BigInteger> totalFunds = Map.of(
+                Constants.ICX, BigInteger.valueOf(1000).multiply(MULTIPLIER),
+                bnUSD, BigInteger.valueOf(350).multiply(MULTIPLIER)
+        );
+        doReturn(totalFunds).when(scoreSpy).callScore(eq(Map.class), eq(cpfTreasury), eq("getTotalFunds"));
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("transferProposalFundToCpsTreasury"),
+                any(), any(), any(), any(), any(), any());
+        doNothing().when(scoreSpy).callScore(eq(cpfTreasury), eq("resetSwapState"));
+        doReturn(BigInteger.valueOf(15)).when(scoreSpy).getVotingPeriod();
+    }
+
+    // the proposals keep the order of the last period, their ranks start over
+    void assertRankingOfProposalsStayingPending() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ACTIVE, getProposalDetailsByHash("Proposal " + i).get("status"));
+        }
+        List<String> proposalList = (List<String>) cpsScore.call("sortPriorityProposals");
+        assertEquals(List.of("Proposal 3", "Proposal 4", "Proposal 5", "Proposal 6", "Proposal 7", "Proposal 8",
+                "Proposal 9"), proposalList);
+        Map<String, Integer> priorityVoteResult = (Map<String, Integer>) cpsScore.call("getPriorityVoteResult");
+        for (Integer rank : priorityVoteResult.values()) {
+            assertEquals(0, rank);
+        }
+    }
 
     @Test
     void setCpsTreasury() {
@@ -1518,9 +2189,9 @@ public class CPSScoreTest extends TestBase {
 
         JsonObject burnTokens = new JsonObject();
         burnTokens.add("method", "burnAmount");
-        doNothing().when(scoreSpy).callScore(eq(bnUSDScore), eq("transfer"), eq(cpfTreasury), eq(new BigInteger("5000000000000000000")), eq(burnTokens.toString().getBytes()));
+        doNothing().when(scoreSpy).callScore(eq(bnUSDScore), eq("transfer"), eq(cpfTreasury), eq(new BigInteger("1250000000000000000")), eq(burnTokens.toString().getBytes()));
         contextMock.when(caller()).thenReturn(bnUSDScore);
-        cpsScore.invoke(owner, "tokenFallback", testingAccount5.getAddress(), new BigInteger("5000000000000000000"), payPenalty.toString().getBytes());
+        cpsScore.invoke(owner, "tokenFallback", testingAccount5.getAddress(), new BigInteger("1250000000000000000"), payPenalty.toString().getBytes());
     }
 
     @Test
@@ -2052,6 +2723,10 @@ public class CPSScoreTest extends TestBase {
         addAdminMethod();
         cpsScore.invoke(owner, "setSwapCount", 10);
         assertEquals(10, cpsScore.call("getSwapCount"));
+
+        setScoresMethod();
+        cpsScore.invoke(owner, "setSwapCount", 12);
+        verify(scoreSpy).callScore(eq(cpfTreasury), eq("setScheduledSwapCount"), eq(12));
     }
 
     @Test
@@ -40,6 +40,13 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
     public static final String WITHDRAWN_ICX = "withdraw_amount_icx";
     public static final String WITHDRAWN_BNUSD = "withdraw_amount_bnUSD";
     public static final String TOTAL_SPONSOR_BOND = "total_sponsor_bond";
+    private static final String CONFIG_VERSION = "config_version";
+    private static final String CONFIG_ADMINS = "config_admins";
+    private static final String CONFIG_ADMIN_LIST = "config_admin_list";
+    private static final String CONFIG_MAINTENANCE = "config_maintenance";
+    private static final String CONFIG_BOND_PERCENTAGE = "config_bond_percentage";
+    private static final String CONFIG_BLOCKED = "config_blocked";
+    private static final String CONFIG_BLOCKED_COMPLETE = "config_blocked_complete";
 
     private final ArrayDB<String> proposalsKeys = Context.newArrayDB(PROPOSALS_KEYS, String.class);
     private final DictDB<String, Integer> proposalsKeyListIndex = Context.newDictDB(PROPOSALS_KEY_LIST_INDEX, Integer.class);
@@ -52,6 +59,16 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
     private final BranchDB<String, ArrayDB<String>> sponsorProjects = Context.newBranchDB(SPONSOR_PROJECTS, String.class);
     private final VarDB<BigInteger> onsetPaymentPercentage = Context.newVarDB(ONSET_PAYMENT, BigInteger.class);
 
+    // copy of the cps score settings, read from the cps score until the first update arrives
+    private final VarDB<BigInteger> configVersion = Context.newVarDB(CONFIG_VERSION, BigInteger.class);
+    private final DictDB<Address, Boolean> configAdmins = Context.newDictDB(CONFIG_ADMINS, Boolean.class);
+    private final ArrayDB<Address> configAdminList = Context.newArrayDB(CONFIG_ADMIN_LIST, Address.class);
+    private final VarDB<Boolean> configMaintenance = Context.newVarDB(CONFIG_MAINTENANCE, Boolean.class);
+    private final VarDB<BigInteger> configBondPercentage = Context.newVarDB(CONFIG_BOND_PERCENTAGE, BigInteger.class);
+    private final DictDB<Address, Boolean> configBlocked = Context.newDictDB(CONFIG_BLOCKED, Boolean.class);
+    // set once a full blocked list was received, until then the blocked list is read from the cps score
+    private final VarDB<Boolean> configBlockedComplete = Context.newVarDB(CONFIG_BLOCKED_COMPLETE, Boolean.class);
+
     private static final BigInteger HUNDRED = BigInteger.valueOf(100);
     public static final BigInteger MAX_ONSET_PAYMENT = BigInteger.valueOf(20);
 
@@ -81,9 +98,40 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
         return proposalsKeyListIndex.getOrDefault(_ipfs_key, null) != null;
     }
 
+    private boolean configReplicated() {
+        return configVersion.get() != null;
+    }
+
+    private boolean isAdmin(Address address) {
+        if (configReplicated()) {
+            return configAdmins.getOrDefault(address, false);
+        }
+        return callScore(Boolean.class, cpsScore.get(), "isAdmin", address);
+    }
+
+    private boolean isMaintenance() {
+        if (configReplicated()) {
+            return configMaintenance.getOrDefault(false);
+        }
+        return callScore(Boolean.class, getCpsScore(), "getMaintenanceMode");
+    }
+
+    private boolean isBlocked(Address address) {
+        if (configBlockedComplete.getOrDefault(false)) {
+            return configBlocked.getOrDefault(address, false);
+        }
+        return callScore(Boolean.class, getCpsScore(), "isBlocked", address);
+    }
+
+    private BigInteger getSponsorBondPercentage() {
+        if (configReplicated()) {
+            return configBondPercentage.get();
+        }
+        return callScore(BigInteger.class, getCpsScore(), "getSponsorBondPercentage");
+    }
+
     private void validateAdmins() {
-        Boolean isAdmin = callScore(Boolean.class, cpsScore.get(), "isAdmin", Context.getCaller());
-        Context.require(isAdmin, TAG + ": Only admins can call this method");
+        Context.require(isAdmin(Context.getCaller()), TAG + ": Only admins can call this method");
 
     }
 
@@ -146,6 +194,45 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
         return balancedDollar.get();
     }
 
+    /***
+     Receives the admins, maintenance mode and sponsor bond percentage of the cps score as a whole, and the
+     addresses blocked since the previous version, or all blocked addresses when fullBlockedList is set. Versions
+     only move forward.
+     ***/
+    @Override
+    @External
+    public void updateConfig(BigInteger version, Address[] admins, boolean maintenance, BigInteger bondPercentage,
+                             Address[] blockedAddresses, boolean fullBlockedList) {
+        validateCpsScore();
+        BigInteger currentVersion = configVersion.getOrDefault(BigInteger.ZERO);
+        Context.require(version.compareTo(currentVersion) > 0,
+                TAG + ": Config version " + version + " is not newer than " + currentVersion);
+        configVersion.set(version);
+
+        int size = configAdminList.size();
+        for (int i = 0; i < size; i++) {
+            configAdmins.set(configAdminList.pop(), null);
+        }
+        for (Address admin : admins) {
+            configAdmins.set(admin, true);
+            configAdminList.add(admin);
+        }
+        configMaintenance.set(maintenance);
+        configBondPercentage.set(bondPercentage);
+        for (Address address : blockedAddresses) {
+            configBlocked.set(address, true);
+        }
+        if (fullBlockedList) {
+            configBlockedComplete.set(true);
+        }
+    }
+
+    @Override
+    @External(readonly = true)
+    public BigInteger getConfigVersion() {
+        return configVersion.getOrDefault(BigInteger.ZERO);
+    }
+
     @External
     public void setOnsetPayment(BigInteger paymentPercentage) {
         Context.require(Context.getCaller().equals(cpfTreasuryScore.get()), TAG + ": Only receiving from  " +
@@ -153,7 +240,7 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
         Context.require(paymentPercentage.compareTo(MAX_ONSET_PAYMENT) <= 0,
                 TAG + ": Initial payment cannot be greater than " + MAX_ONSET_PAYMENT + " percentage");
 
-        BigInteger bondPercentage = callScore(BigInteger.class, getCpsScore(), "getSponsorBondPercentage");
+        BigInteger bondPercentage = getSponsorBondPercentage();
         Context.require(paymentPercentage.compareTo(bondPercentage) <= 0,
                 TAG + ": Payment cannot be greater than sponsor bond percentage");
 
@@ -246,7 +333,7 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
         List<Map<String, ?>> projectDetails = new ArrayList<>();
         ArrayDB<String> proposalKeysArray = sponsorProjects.at(walletAddress.toString());
         int proposalKeysSize = proposalKeysArray.size();
-        BigInteger bondPercentage = callScore(BigInteger.class, getCpsScore(), "getSponsorBondPercentage");
+        BigInteger bondPercentage = getSponsorBondPercentage();
         for (int i = 0; i < proposalKeysSize; i++) {
             String _ipfs_key = proposalKeysArray.get(i);
             String proposalPrefix = proposalPrefix(_ipfs_key);
@@ -478,11 +565,9 @@ public class CPSTreasury extends ProposalData implements CPSTreasuryInterface {
     @Override
     @External
     public void claimReward() {
-        boolean checkMaintenance = callScore(Boolean.class, getCpsScore(), "getMaintenanceMode");
-        Context.require(!checkMaintenance, TAG + ": CPS is in maintenance mode");
+        Context.require(!isMaintenance(), TAG + ": CPS is in maintenance mode");
         Address caller = Context.getCaller();
-        List<Address> blockAddresses = callScore(List.class, getCpsScore(), "getBlockedAddresses");
-        Context.require(!blockAddresses.contains(caller), TAG + ": Address is blocked");
+        Context.require(!isBlocked(caller), TAG + ": Address is blocked");
         DictDB<String, BigInteger> installmentFundRecord = this.installmentFundRecord.at(caller.toString());
         BigInteger availableAmountICX = installmentFundRecord.getOrDefault(consts.ICX, BigInteger.ZERO);
         BigInteger availableAmountbnUSD = installmentFundRecord.getOrDefault(consts.bnUSD, BigInteger.ZERO);
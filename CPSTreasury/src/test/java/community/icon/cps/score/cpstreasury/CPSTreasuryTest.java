@@ -560,7 +560,7 @@ public class CPSTreasuryTest extends TestBase {
         setBnUSDScoreMethod();
         BigInteger reward = BigInteger.valueOf(2).multiply(MULTIPLIER).divide(BigInteger.valueOf(10));
         doReturn(false).when(scoreSpy).callScore(eq(Boolean.class),any(), eq("getMaintenanceMode"));
-        doReturn(List.of()).when(scoreSpy).callScore(List.class, score_address, "getBlockedAddresses");
+        doReturn(false).when(scoreSpy).callScore(Boolean.class, score_address, "isBlocked", testing_account.getAddress());
         doNothing().when(scoreSpy).callScore(eq(bnUSDScore),eq("transfer"),eq(testing_account.getAddress()),eq(reward));
         contextMock.when(caller()).thenReturn(testing_account.getAddress());
 
@@ -569,4 +569,53 @@ public class CPSTreasuryTest extends TestBase {
 
 
     }
+
+    @Test
+    void claimRewardWithReplicatedConfig(){
+        setScoresMethod();
+        setCpsScoreMethod();
+        depositProposalFundMethod();
+        setBnUSDScoreMethod();
+
+        contextMock.when(caller()).thenReturn(score_address);
+        Address[] admins = new Address[]{owner.getAddress()};
+        Address[] blocked = new Address[]{testing_account2.getAddress()};
+        tokenScore.invoke(owner, "updateConfig", BigInteger.ONE, admins, false, BigInteger.valueOf(15), blocked, true);
+        assertEquals(BigInteger.ONE, tokenScore.call("getConfigVersion"));
+
+        Executable staleVersion = () -> tokenScore.invoke(owner, "updateConfig", BigInteger.ONE, admins, true,
+                BigInteger.valueOf(15), new Address[0], false);
+        expectErrorMessage(staleVersion, "Reverted(0): " + TAG + ": Config version 1 is not newer than 1");
+
+        BigInteger reward = BigInteger.valueOf(2).multiply(MULTIPLIER).divide(BigInteger.valueOf(10));
+        doNothing().when(scoreSpy).callScore(eq(bnUSDScore),eq("transfer"),eq(testing_account.getAddress()),eq(reward));
+        contextMock.when(caller()).thenReturn(testing_account.getAddress());
+        tokenScore.invoke(testing_account, "claimReward");
+        verify(scoreSpy, never()).callScore(eq(Boolean.class), any(), eq("getMaintenanceMode"));
+        verify(scoreSpy, never()).callScore(eq(Boolean.class), any(), eq("isBlocked"), any());
+
+        contextMock.when(caller()).thenReturn(testing_account2.getAddress());
+        Executable blockedClaim = () -> tokenScore.invoke(testing_account2, "claimReward");
+        expectErrorMessage(blockedClaim, "Reverted(0): " + TAG + ": Address is blocked");
+    }
+
+    @Test
+    void blockedCheckFallsBackUntilFullListReceived() {
+        setScoresMethod();
+        setCpsScoreMethod();
+        depositProposalFundMethod();
+        setBnUSDScoreMethod();
+
+        // only the changes since the last version, addresses blocked before are not in it
+        contextMock.when(caller()).thenReturn(score_address);
+        Address[] admins = new Address[]{owner.getAddress()};
+        tokenScore.invoke(owner, "updateConfig", BigInteger.ONE, admins, false, BigInteger.valueOf(15),
+                new Address[0], false);
+
+        doReturn(true).when(scoreSpy).callScore(Boolean.class, score_address, "isBlocked", testing_account.getAddress());
+        contextMock.when(caller()).thenReturn(testing_account.getAddress());
+        Executable blockedClaim = () -> tokenScore.invoke(testing_account, "claimReward");
+        expectErrorMessage(blockedClaim, "Reverted(0): " + TAG + ": Address is blocked");
+        verify(scoreSpy, never()).callScore(eq(Boolean.class), any(), eq("getMaintenanceMode"));
+    }
 }
\ No newline at end of file
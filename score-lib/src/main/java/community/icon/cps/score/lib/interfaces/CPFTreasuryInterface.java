@@ -114,9 +114,25 @@ public interface CPFTreasuryInterface {
     @External
     void swapICXToBnUSD(BigInteger amount, @Optional BigInteger _minReceive);
 
+    @External
+    void updateConfig(BigInteger version, Address[] admins, boolean maintenance, BigInteger bondPercentage,
+                      Address[] blockedAddresses, boolean fullBlockedList);
+
+    @External(readonly = true)
+    BigInteger getConfigVersion();
+
     @External
     void swapTokens(int _count);
 
+    @External
+    void executeScheduledSwap();
+
+    @External
+    void setScheduledSwapCount(int count);
+
+    @External(readonly = true)
+    Map<String, Object> getSwapSchedule();
+
     @External(readonly = true)
     Map<String, Integer> getSwapStateStatus();
 
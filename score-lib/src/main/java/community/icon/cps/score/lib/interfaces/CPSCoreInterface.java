@@ -56,6 +56,29 @@ public interface CPSCoreInterface {
         public String vote;
     }
 
+    public static class ProposalVote {
+        public String ipfsKey;
+        public String vote;
+        public String voteReason;
+        public boolean voteChange;
+    }
+
+    public static class ProgressReportVote {
+        public String reportKey;
+        public String voteReason;
+        public MilestoneVoteAttributes[] votes;
+        public String budgetAdjustmentVote;
+        public boolean voteChange;
+    }
+
+    public static class SignedVoteBatch {
+        public Address voter;
+        public BigInteger nonce;
+        public ProposalVote[] proposalVotes;
+        public ProgressReportVote[] progressReportVotes;
+        public byte[] signature;
+    }
+
     @External(readonly = true)
     String name();
 
@@ -147,6 +170,15 @@ public interface CPSCoreInterface {
     @External(readonly = true)
     List<Address> getAdmins();
 
+    @External(readonly = true)
+    boolean isBlocked(Address address);
+
+    @External(readonly = true)
+    boolean isValidPrep(Address address);
+
+    @External(readonly = true)
+    Map<String, Boolean> getRoles(Address address);
+
     @SuppressWarnings("unchecked")
 
     @External(readonly = true)
@@ -181,6 +213,9 @@ public interface CPSCoreInterface {
     @External
     void voteProposal(String ipfsKey, String vote, String voteReason, @Optional boolean voteChange);
 
+    @External
+    void voteProposals(ProposalVote[] votes);
+
 
     @External
     void submitProgressReport(ProgressReportAttributes progressReport, MilestoneSubmission[] milestoneSubmissions);
@@ -189,6 +224,15 @@ public interface CPSCoreInterface {
     @External
     void voteProgressReport(String reportKey, String voteReason, MilestoneVoteAttributes[] votes, @Optional String budgetAdjustmentVote,@Optional boolean voteChange);
 
+    @External
+    void voteProgressReports(ProgressReportVote[] votes);
+
+    @External
+    void submitSignedVotes(SignedVoteBatch[] batches);
+
+    @External(readonly = true)
+    BigInteger getVoteNonce(Address voter);
+
 
     @External(readonly = true)
     List<String> getProposalsKeysByStatus(String _status);
@@ -208,12 +252,21 @@ public interface CPSCoreInterface {
     @External
     void updatePeriod();
 
+    @External
+    void processPeriodStep(int maxItems);
+
+    @External(readonly = true)
+    Map<String, Object> getPeriodUpdateProgress();
+
 
     @External(readonly = true)
     Map<String, ?> getProposalDetails(String status, @Optional Address walletAddress, @Optional int startIndex);
 
     @External(readonly = true)
-    Map<String, Object> getProposalDetailsByHash(String ipfs_key);
+    Map<String, Object> getProposalDetailsByHash(String ipfs_key, @Optional String[] fields);
+
+    @External(readonly = true)
+    List<Map<String, Object>> getProposalDetailsByHashes(String[] ipfsKeys, @Optional String[] fields);
 
 
     @External(readonly = true)
@@ -221,7 +274,10 @@ public interface CPSCoreInterface {
 
 
     @External(readonly = true)
-    Map<String, Object> getProgressReportsByHash(String reportKey);
+    Map<String, Object> getProgressReportsByHash(String reportKey, @Optional String[] fields);
+
+    @External(readonly = true)
+    List<Map<String, Object>> getProgressReportsByHashes(String[] reportKeys, @Optional String[] fields);
 
 
     @External(readonly = true)
@@ -234,6 +290,9 @@ public interface CPSCoreInterface {
     @External(readonly = true)
     Map<String, Object> getVoteResult(String ipfsKey);
 
+    @External(readonly = true)
+    List<Map<String, Object>> getVoteResults(String[] ipfsKeys);
+
     @External(readonly = true)
     Map<String, Object> getProgressReportResult(String reportKey);
 
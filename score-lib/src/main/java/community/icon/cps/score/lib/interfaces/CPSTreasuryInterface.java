@@ -70,6 +70,13 @@ public interface CPSTreasuryInterface {
     @External
     void tokenFallback(Address from, BigInteger value, byte[] _data);
 
+    @External
+    void updateConfig(BigInteger version, Address[] admins, boolean maintenance, BigInteger bondPercentage,
+                      Address[] blockedAddresses, boolean fullBlockedList);
+
+    @External(readonly = true)
+    BigInteger getConfigVersion();
+
     @External
     void setOnsetPayment(BigInteger paymentPercentage);
 